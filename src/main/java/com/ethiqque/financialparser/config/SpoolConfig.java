@@ -0,0 +1,22 @@
+package com.ethiqque.financialparser.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "parser.spool.enabled", havingValue = "true")
+public class SpoolConfig {
+
+    @Bean(name = "spoolScheduler")
+    public ThreadPoolTaskScheduler spoolScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(4);
+        scheduler.setThreadNamePrefix("SpoolThread-");
+        scheduler.initialize();
+        return scheduler;
+    }
+}
@@ -2,10 +2,13 @@ package com.ethiqque.financialparser.controller;
 
 import com.ethiqque.financialparser.exception.InvalidFileException;
 import com.ethiqque.financialparser.service.FinancialReportParser;
+import com.ethiqque.financialparser.service.SpoolCoordinator;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -14,7 +17,9 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 @Slf4j
 @RestController
@@ -24,6 +29,9 @@ public class FinancialReportController {
     @Autowired
     private FinancialReportParser reportParser;
 
+    @Autowired(required = false)
+    private SpoolCoordinator spoolCoordinator;
+
     /**
      * Endpoint for uploading a financial report PDF.
      *
@@ -34,13 +42,25 @@ public class FinancialReportController {
      *             It must be passed as a multipart file in the request.
      * @return ResponseEntity containing a map of parsed financial data. If an
      *         error occurs during processing, an appropriate error message is returned.
+     *         Files that fail the pre-flight checks are answered with 422. In spool mode,
+     *         a job still being processed by another node is answered with 202 and its id.
      */
     @PostMapping("/upload")
     public ResponseEntity<Map<String, Object>> uploadFinancialReport(@RequestParam("file") MultipartFile file) {
         try {
             log.info("Uploading file: {}", file.getOriginalFilename());
 
-            Map<String, Object> parsedData = reportParser.parsePdf(file.getInputStream());
+            byte[] content = file.getBytes();
+            Map<String, Object> parsedData;
+            if (spoolCoordinator != null) {
+                Optional<Map<String, Object>> spooledData = spoolCoordinator.submitAndAwait(content);
+                if (spooledData.isEmpty()) {
+                    return ResponseEntity.status(HttpStatus.ACCEPTED).body(processingResponse(spoolCoordinator.jobId(content)));
+                }
+                parsedData = spooledData.get();
+            } else {
+                parsedData = reportParser.parsePdf(content);
+            }
 
             if (parsedData == null || parsedData.isEmpty()) {
                 return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Collections.singletonMap("error", "No data extracted"));
@@ -52,4 +72,41 @@ public class FinancialReportController {
             throw  new InvalidFileException(e.getMessage());
         }
     }
+
+    /**
+     * Endpoint for fetching the result of a spooled job.
+     *
+     * Only available when the service runs in spool mode; any node sharing the
+     * spool directory can serve the result of a job processed on another node.
+     *
+     * @param jobId The job id returned by the upload endpoint.
+     * @return ResponseEntity containing the parsed financial data, 202 if the job
+     *         is still being processed, or 404 if the job is unknown.
+     */
+    @GetMapping("/results/{jobId}")
+    public ResponseEntity<Map<String, Object>> getSpooledResult(@PathVariable("jobId") String jobId) {
+        if (spoolCoordinator == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Collections.singletonMap("error", "Spool mode is disabled"));
+        }
+        try {
+            Optional<Map<String, Object>> parsedData = spoolCoordinator.findResult(jobId);
+            if (parsedData.isPresent()) {
+                return ResponseEntity.ok(parsedData.get());
+            }
+            if (spoolCoordinator.isPending(jobId)) {
+                return ResponseEntity.status(HttpStatus.ACCEPTED).body(processingResponse(jobId));
+            }
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Collections.singletonMap("error", "Unknown job id"));
+        } catch (IOException e) {
+            log.error("Error reading spooled result: {}", e.getMessage());
+            throw new InvalidFileException(e.getMessage());
+        }
+    }
+
+    private Map<String, Object> processingResponse(String jobId) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("id", jobId);
+        response.put("status", "processing");
+        return response;
+    }
 }
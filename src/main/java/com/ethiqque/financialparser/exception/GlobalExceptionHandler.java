@@ -19,6 +19,13 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(e, request, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(RejectedDocumentException.class)
+    @ResponseStatus(HttpStatus.UNPROCESSABLE_ENTITY)
+    public ErrorResponse handleRejectedDocumentException(RejectedDocumentException e, HttpServletRequest request) {
+        log.warn("Document rejected by pre-flight: {}", e.getMessage());
+        return buildErrorResponse(e, request, HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+
     private ErrorResponse buildErrorResponse(Exception e, HttpServletRequest request, HttpStatus status) {
         return ErrorResponse.builder()
                 .timestamp(LocalDateTime.now())
@@ -0,0 +1,7 @@
+package com.ethiqque.financialparser.exception;
+
+public class RejectedDocumentException extends RuntimeException {
+    public RejectedDocumentException(String message) {
+        super(message);
+    }
+}
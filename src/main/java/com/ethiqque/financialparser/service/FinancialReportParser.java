@@ -1,15 +1,16 @@
 package com.ethiqque.financialparser.service;
 
+import com.ethiqque.financialparser.exception.RejectedDocumentException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.pdfbox.pdmodel.PDDocument;
-import org.apache.pdfbox.text.PDFTextStripper;
+import org.apache.pdfbox.pdmodel.encryption.InvalidPasswordException;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
@@ -26,26 +27,41 @@ import java.util.regex.Pattern;
 @RequiredArgsConstructor
 public class FinancialReportParser {
 
+    /**
+     * Footnote markers like "(1)" follow a label word. Parenthesized numbers that do not
+     * directly follow a word, or have more than one digit, are negative values.
+     * A single-digit negative directly after a label, like "Other (5) (1,234)", cannot be
+     * told apart from a footnote marker and is dropped, so the next value is read instead.
+     */
+    private static final Pattern FOOTNOTE_MARKER = Pattern.compile("(?<=\\p{L})\\s*\\(\\d\\)");
+
     private Executor asyncExecutor;
 
+    private final PdfPreflightInspector preflightInspector;
+
     /**
      * Parses the input PDF file and extracts relevant financial data.
+     * The file is pre-flighted first, so non-PDFs, encrypted, truncated, scanned and
+     * unrelated documents are rejected before the full text extraction.
      *
-     * @param inputStream the InputStream of the PDF to be parsed
+     * @param content the raw bytes of the PDF to be parsed
      * @return a Map containing extracted financial data
      * @throws IOException if there is an issue reading or processing the PDF
+     * @throws RejectedDocumentException if the file fails the pre-flight checks
      */
-    public Map<String, Object> parsePdf(InputStream inputStream) throws IOException {
+    public Map<String, Object> parsePdf(byte[] content) throws IOException {
         Map<String, Object> data = new HashMap<>();
 
-        try (PDDocument document = PDDocument.load(inputStream)) {
+        preflightInspector.inspectBytes(content);
+
+        try (PDDocument document = loadDocument(content)) {
             log.info("Loaded PDF document");
 
-            PDFTextStripper stripper = new PDFTextStripper();
-            String text = stripper.getText(document);
-            log.info("Extracted PDF Text");
+            preflightInspector.inspectDocument(document);
 
-            String[] pages = text.split("Apple Inc. | 2023 Form 10-K");
+            PageSegmentingTextStripper stripper = new PageSegmentingTextStripper();
+            List<PageView> pages = stripper.getPages(document);
+            log.info("Extracted PDF Text: {} pages", pages.size());
 
             data = extractFinancialData(pages);
         } catch (IOException e) {
@@ -56,14 +72,30 @@ public class FinancialReportParser {
         return data;
     }
 
+    /**
+     * Loads the PDF document, rejecting documents that cannot be opened without a password.
+     *
+     * @param content the raw bytes of the PDF
+     * @return the loaded document
+     * @throws IOException if the PDF cannot be loaded
+     * @throws RejectedDocumentException if the document requires a user password
+     */
+    PDDocument loadDocument(byte[] content) throws IOException {
+        try {
+            return PDDocument.load(content);
+        } catch (InvalidPasswordException e) {
+            throw new RejectedDocumentException("PDF document is encrypted");
+        }
+    }
+
     /**
      * Extracts the financial data from the parsed pages of the report.
      * Combines various asynchronous operations to gather all necessary financial details.
      *
-     * @param pages an array of strings representing the pages of the PDF document
+     * @param pages the pages of the PDF document, as views over the extracted text
      * @return a Map containing the extracted financial data
      */
-    private Map<String, Object> extractFinancialData(String[] pages) {
+    private Map<String, Object> extractFinancialData(List<PageView> pages) {
         Map<String, Object> data = new HashMap<>();
 
         CompletableFuture<Map<String, Object>> assetsFuture = extractAssets(pages);
@@ -126,12 +158,12 @@ public class FinancialReportParser {
     /**
      * Searches through the text of the PDF pages to find the page that contains the specified keyword.
      *
-     * @param pages the array of PDF pages represented as strings
+     * @param pages the pages of the PDF document
      * @param keyword the keyword to search for
      * @return the page containing the keyword, or null if no such page is found
      */
-    private String findPageWithText(String[] pages, String keyword) {
-        for (String page : pages) {
+    private PageView findPageWithText(List<PageView> pages, String keyword) {
+        for (PageView page : pages) {
             if (page.contains(keyword)) {
                 return page;
             }
@@ -146,13 +178,12 @@ public class FinancialReportParser {
      * @param fieldName the name of the field to be extracted
      * @return the parsed numeric value for the field, or 0.0 if not found
      */
-    private double parseFieldForYear(String text, String fieldName) {
-        String[] lines = text.split("\n");
-        for (String line : lines) {
-            if (line.trim().contains(fieldName)) {
+    private double parseFieldForYear(PageView text, String fieldName) {
+        for (PageView line : text.lines()) {
+            if (line.contains(fieldName)) {
                 log.info("Field found: {}", fieldName);
 
-                String cleanedLine = line.replaceAll("\\(\\d+\\)", "").trim();
+                String cleanedLine = FOOTNOTE_MARKER.matcher(line.toString()).replaceAll("").trim();
 
                 String[] tokens = cleanedLine.split("\\s+");
                 for (String token : tokens) {
@@ -172,11 +203,10 @@ public class FinancialReportParser {
      * @param fieldName the name of the field to look for
      * @return the numeric value of the field, or 0.0 if not found
      */
-    private double parseField(String text, String fieldName) {
-        String[] lines = text.split("\n");
-        for (int i = 0; i < lines.length; i++) {
-            if (lines[i].trim().contains(fieldName)) {
-                String line = lines[i].replace(fieldName, "").trim();
+    private double parseField(PageView text, String fieldName) {
+        for (PageView pageLine : text.lines()) {
+            if (pageLine.contains(fieldName)) {
+                String line = pageLine.toString().replace(fieldName, "").trim();
 
                 String[] tokens = line.split("\\s+");
                 for (String token : tokens) {
@@ -220,7 +250,7 @@ public class FinancialReportParser {
      * @param label the label within the segment
      * @return the numeric value of the segment data, or 0.0 if not found
      */
-    private double parseSegmentData(String text, String segment, String label) {
+    private double parseSegmentData(PageView text, String segment, String label) {
         String pattern = segment + ":[\\s\\S]*?" + label + "\\s*\\$\\s*([0-9,]+)";
         Pattern regexPattern = Pattern.compile(pattern);
         Matcher matcher = regexPattern.matcher(text);
@@ -237,9 +267,9 @@ public class FinancialReportParser {
      * @return a CompletableFuture containing the extracted income statement and EPS data
      */
     @Async("asyncExecutor")
-    public CompletableFuture<Map<String, Object>> extractIncomeStatementAndEPS(String[] pages) {
+    public CompletableFuture<Map<String, Object>> extractIncomeStatementAndEPS(List<PageView> pages) {
         Map<String, Object> data = new HashMap<>();
-        String rightPage = findPageWithText(pages, "CONSOLIDATED STATEMENTS OF OPERATIONS");
+        PageView rightPage = findPageWithText(pages, "CONSOLIDATED STATEMENTS OF OPERATIONS");
         if (rightPage != null) {
             data.put("Income_Statement", extractIncomeStatementData(rightPage));
             data.put("Earnings_Per_Share", extractEPSData(rightPage));
@@ -247,7 +277,7 @@ public class FinancialReportParser {
         return CompletableFuture.completedFuture(data);
     }
 
-    private Map<String, Object> extractIncomeStatementData(String rightPage) {
+    private Map<String, Object> extractIncomeStatementData(PageView rightPage) {
         Map<String, Object> incomeStatement = new HashMap<>();
         incomeStatement.put("Products_Net_Sales", parseFieldForYear(rightPage, "Products"));
         incomeStatement.put("Services_Net_Sales", parseFieldForYear(rightPage, "Services"));
@@ -258,7 +288,7 @@ public class FinancialReportParser {
         return incomeStatement;
     }
 
-    private Map<String, Object> extractEPSData(String rightPage) {
+    private Map<String, Object> extractEPSData(PageView rightPage) {
         Map<String, Object> earningsPerShare = new HashMap<>();
         earningsPerShare.put("Basic_EPS", parseFieldForYear(rightPage, "Basic"));
         earningsPerShare.put("Diluted_EPS", parseFieldForYear(rightPage, "Diluted"));
@@ -266,9 +296,9 @@ public class FinancialReportParser {
     }
 
     @Async("asyncExecutor")
-    public CompletableFuture<Map<String, Object>> extractAssets(String[] pages) {
+    public CompletableFuture<Map<String, Object>> extractAssets(List<PageView> pages) {
         Map<String, Object> assets = new HashMap<>();
-        String rightPage = findPageWithText(pages, "CONSOLIDATED BALANCE SHEETS");
+        PageView rightPage = findPageWithText(pages, "CONSOLIDATED BALANCE SHEETS");
         if (rightPage != null) {
             assets.put("Current_Assets", extractCurrentAssets(rightPage));
             assets.put("Non_Current_Assets", extractNonCurrentAssets(rightPage));
@@ -276,14 +306,14 @@ public class FinancialReportParser {
         return CompletableFuture.completedFuture(assets);
     }
 
-    private Map<String, Object> extractCurrentAssets(String rightPage) {
+    private Map<String, Object> extractCurrentAssets(PageView rightPage) {
         Map<String, Object> currentAssets = new HashMap<>();
         currentAssets.put("Cash_and_Cash_Equivalents", parseFieldForYear(rightPage, "Cash and cash equivalents"));
         currentAssets.put("Marketable_Securities", parseFieldForYear(rightPage, "Marketable securities"));
         return currentAssets;
     }
 
-    private Map<String, Object> extractNonCurrentAssets(String rightPage) {
+    private Map<String, Object> extractNonCurrentAssets(PageView rightPage) {
         Map<String, Object> nonCurrentAssets = new HashMap<>();
         nonCurrentAssets.put("Marketable_Securities", parseFieldForYear(rightPage, "Marketable securities"));
         nonCurrentAssets.put("Property_Plant_and_Equipment_Net", parseFieldForYear(rightPage, "Property, plant and equipment, net"));
@@ -291,9 +321,9 @@ public class FinancialReportParser {
     }
 
     @Async("asyncExecutor")
-    public CompletableFuture<Map<String, Object>> extractLiabilitiesAndEquity(String[] pages) {
+    public CompletableFuture<Map<String, Object>> extractLiabilitiesAndEquity(List<PageView> pages) {
         Map<String, Object> liabilitiesAndEquity = new HashMap<>();
-        String rightPage = findPageWithText(pages, "LIABILITIES AND SHAREHOLDERS’ EQUITY:");
+        PageView rightPage = findPageWithText(pages, "LIABILITIES AND SHAREHOLDERS’ EQUITY:");
         if (rightPage != null) {
             liabilitiesAndEquity.put("Current_Liabilities", extractCurrentLiabilities(rightPage));
             liabilitiesAndEquity.put("Non_Current_Liabilities", extractNonCurrentLiabilities(rightPage));
@@ -301,14 +331,14 @@ public class FinancialReportParser {
         return CompletableFuture.completedFuture(liabilitiesAndEquity);
     }
 
-    private Map<String, Object> extractCurrentLiabilities(String rightPage) {
+    private Map<String, Object> extractCurrentLiabilities(PageView rightPage) {
         Map<String, Object> currentLiabilities = new HashMap<>();
         currentLiabilities.put("Accounts_Payable", parseFieldForYear(rightPage, "Accounts payable"));
         currentLiabilities.put("Other_Current_Liabilities", parseFieldForYear(rightPage, "Other current liabilities"));
         return currentLiabilities;
     }
 
-    private Map<String, Object> extractNonCurrentLiabilities(String rightPage) {
+    private Map<String, Object> extractNonCurrentLiabilities(PageView rightPage) {
         Map<String, Object> nonCurrentLiabilities = new HashMap<>();
         nonCurrentLiabilities.put("Term_Debt", parseFieldForYear(rightPage, "Term debt"));
         nonCurrentLiabilities.put("Other_Non_Current_Liabilities", parseFieldForYear(rightPage, "Other non-current liabilities"));
@@ -316,9 +346,9 @@ public class FinancialReportParser {
     }
 
     @Async("asyncExecutor")
-    public CompletableFuture<Map<String, Object>> extractComprehensiveIncomeStatement(String[] pages) {
+    public CompletableFuture<Map<String, Object>> extractComprehensiveIncomeStatement(List<PageView> pages) {
         Map<String, Object> comprehensiveIncome = new HashMap<>();
-        String rightPage = findPageWithText(pages, "CONSOLIDATED STATEMENTS OF COMPREHENSIVE INCOME");
+        PageView rightPage = findPageWithText(pages, "CONSOLIDATED STATEMENTS OF COMPREHENSIVE INCOME");
         if (rightPage != null) {
             comprehensiveIncome.put("Net_Income", parseFieldForYear(rightPage, "Net income"));
             comprehensiveIncome.put("Change_in_Foreign_Currency_Translation", parseFieldForYear(rightPage, "Change in foreign currency translation"));
@@ -329,9 +359,9 @@ public class FinancialReportParser {
     }
 
     @Async("asyncExecutor")
-    public CompletableFuture<Map<String, Object>> extractShareholdersEquityStatement(String[] pages) {
+    public CompletableFuture<Map<String, Object>> extractShareholdersEquityStatement(List<PageView> pages) {
         Map<String, Object> shareholdersEquity = new HashMap<>();
-        String rightPage = findPageWithText(pages, "CONSOLIDATED STATEMENTS OF SHAREHOLDERS’ EQUITY");
+        PageView rightPage = findPageWithText(pages, "CONSOLIDATED STATEMENTS OF SHAREHOLDERS’ EQUITY");
         if (rightPage != null) {
             shareholdersEquity.put("Beginning_Balances_Total_Shareholders_Equity", parseFieldForYear(rightPage, "Total shareholders’ equity, beginning balances"));
             shareholdersEquity.put("Net_Income", parseFieldForYear(rightPage, "Net income"));
@@ -342,9 +372,9 @@ public class FinancialReportParser {
     }
 
     @Async("asyncExecutor")
-    public CompletableFuture<Map<String, Object>> extractCashFlowStatement(String[] pages) {
+    public CompletableFuture<Map<String, Object>> extractCashFlowStatement(List<PageView> pages) {
         Map<String, Object> cashFlowStatement = new HashMap<>();
-        String rightPage = findPageWithText(pages, "CONSOLIDATED STATEMENTS OF CASH FLOWS");
+        PageView rightPage = findPageWithText(pages, "CONSOLIDATED STATEMENTS OF CASH FLOWS");
         if (rightPage != null) {
             cashFlowStatement.put("Net_Income", parseFieldForYear(rightPage, "Net income"));
             cashFlowStatement.put("Depreciation_and_Amortization", parseFieldForYear(rightPage, "Depreciation and amortization"));
@@ -356,9 +386,9 @@ public class FinancialReportParser {
     }
 
     @Async("asyncExecutor")
-    public CompletableFuture<Map<String, Object>> extractNetSalesAndEPS(String[] pages) {
+    public CompletableFuture<Map<String, Object>> extractNetSalesAndEPS(List<PageView> pages) {
         Map<String, Object> netSalesAndEPS = new HashMap<>();
-        String rightPage = findPageWithText(pages, "Note 3 – Earnings Per Share");
+        PageView rightPage = findPageWithText(pages, "Note 3 – Earnings Per Share");
         if (rightPage != null) {
             Map<String, Object> netSales = new HashMap<>();
 
@@ -379,9 +409,9 @@ public class FinancialReportParser {
     }
 
     @Async("asyncExecutor")
-    public CompletableFuture<Map<String, Object>> extractCashEquivalentsAndMarketableSecurities(String[] pages) {
+    public CompletableFuture<Map<String, Object>> extractCashEquivalentsAndMarketableSecurities(List<PageView> pages) {
         Map<String, Object> cashEquivalentsAndMarketableSecurities = new HashMap<>();
-        String rightPage = findPageWithText(pages, "Cash, Cash Equivalents and Marketable Securities");
+        PageView rightPage = findPageWithText(pages, "Cash, Cash Equivalents and Marketable Securities");
         if (rightPage != null) {
             Map<String, Object> level1 = new HashMap<>();
             level1.put("Money_Market_Funds", parseFieldForYear(rightPage, "Money market funds"));
@@ -397,9 +427,9 @@ public class FinancialReportParser {
     }
 
     @Async("asyncExecutor")
-    public CompletableFuture<Map<String, Object>> extractDebtSecuritiesAndDerivatives(String[] pages) {
+    public CompletableFuture<Map<String, Object>> extractDebtSecuritiesAndDerivatives(List<PageView> pages) {
         Map<String, Object> debtSecuritiesAndDerivatives = new HashMap<>();
-        String rightPage = findPageWithText(pages, "Derivative Instruments and Hedging");
+        PageView rightPage = findPageWithText(pages, "Derivative Instruments and Hedging");
         if (rightPage != null) {
             debtSecuritiesAndDerivatives.put("Non_Current_Marketable_Debt_Securities", extractNonCurrentDebtSecurities(rightPage));
             debtSecuritiesAndDerivatives.put("Derivative_Instruments", extractDerivativeInstruments(rightPage));
@@ -407,7 +437,7 @@ public class FinancialReportParser {
         return CompletableFuture.completedFuture(debtSecuritiesAndDerivatives);
     }
 
-    private Map<String, Object> extractNonCurrentDebtSecurities(String rightPage) {
+    private Map<String, Object> extractNonCurrentDebtSecurities(PageView rightPage) {
         Map<String, Object> nonCurrentDebtSecurities = new HashMap<>();
         nonCurrentDebtSecurities.put("Due_After_1_Year_Through_5_Years", parseField(rightPage, "Due after 1 year through 5 years"));
         nonCurrentDebtSecurities.put("Due_After_10_Years", parseField(rightPage, "Due after 10 years"));
@@ -415,30 +445,30 @@ public class FinancialReportParser {
         return nonCurrentDebtSecurities;
     }
 
-    private Map<String, Object> extractDerivativeInstruments(String rightPage) {
+    private Map<String, Object> extractDerivativeInstruments(PageView rightPage) {
         Map<String, Object> derivativeInstruments = new HashMap<>();
         derivativeInstruments.put("Accounting_Hedges", extractAccountingHedges(rightPage));
         derivativeInstruments.put("Non_Accounting_Hedges", extractNonAccountingHedges(rightPage));
         return derivativeInstruments;
     }
 
-    private Map<String, Object> extractAccountingHedges(String rightPage) {
+    private Map<String, Object> extractAccountingHedges(PageView rightPage) {
         Map<String, Object> accountingHedges = new HashMap<>();
         accountingHedges.put("Foreign_Exchange_Contracts", parseField(rightPage, "Foreign exchange contracts"));
         accountingHedges.put("Interest_Rate_Contracts", parseField(rightPage, "Interest rate contracts"));
         return accountingHedges;
     }
 
-    private Map<String, Object> extractNonAccountingHedges(String rightPage) {
+    private Map<String, Object> extractNonAccountingHedges(PageView rightPage) {
         Map<String, Object> nonAccountingHedges = new HashMap<>();
         nonAccountingHedges.put("Foreign_Exchange_Contracts", parseField(rightPage, "Foreign exchange contracts"));
         return nonAccountingHedges;
     }
 
     @Async("asyncExecutor")
-    public CompletableFuture<Map<String, Object>> extractHedgedAssetsAndLiabilities(String[] pages) {
+    public CompletableFuture<Map<String, Object>> extractHedgedAssetsAndLiabilities(List<PageView> pages) {
         Map<String, Object> hedgedAssetsAndLiabilities = new HashMap<>();
-        String rightPage = findPageWithText(pages, "Accounts Receivable");
+        PageView rightPage = findPageWithText(pages, "Accounts Receivable");
         if (rightPage != null) {
             hedgedAssetsAndLiabilities.put("Marketable_Securities", parseFieldForYear(rightPage, "Current and non-current marketable securities"));
             hedgedAssetsAndLiabilities.put("Term_Debt", parseFieldForYear(rightPage, "Current and non-current term debt"));
@@ -447,9 +477,9 @@ public class FinancialReportParser {
     }
 
     @Async("asyncExecutor")
-    public CompletableFuture<Map<String, Object>> extractPropertyPlantAndEquipmentAndOtherDetails(String[] pages) {
+    public CompletableFuture<Map<String, Object>> extractPropertyPlantAndEquipmentAndOtherDetails(List<PageView> pages) {
         Map<String, Object> propertyAndEquipmentDetails = new HashMap<>();
-        String rightPage = findPageWithText(pages, "Note 5 – Property, Plant and Equipment");
+        PageView rightPage = findPageWithText(pages, "Note 5 – Property, Plant and Equipment");
         if (rightPage != null) {
             propertyAndEquipmentDetails.put("Net_Property_Plant_And_Equipment", parseFieldForYear(rightPage, "Total property, plant and equipment, net"));
         }
@@ -457,9 +487,9 @@ public class FinancialReportParser {
     }
 
     @Async("asyncExecutor")
-    public CompletableFuture<Map<String, Object>> extractIncomeTaxes(String[] pages) {
+    public CompletableFuture<Map<String, Object>> extractIncomeTaxes(List<PageView> pages) {
         Map<String, Object> incomeTaxes = new HashMap<>();
-        String rightPage = findPageWithText(pages, "Note 7 – Income Taxes");
+        PageView rightPage = findPageWithText(pages, "Note 7 – Income Taxes");
         if (rightPage != null) {
             incomeTaxes.put("Provision_For_Income_Taxes", parseFieldForYear(rightPage, "Provision for income taxes"));
         }
@@ -467,9 +497,9 @@ public class FinancialReportParser {
     }
 
     @Async("asyncExecutor")
-    public CompletableFuture<Map<String, Object>> extractDeferredTaxAndUncertainPositions(String[] pages) {
+    public CompletableFuture<Map<String, Object>> extractDeferredTaxAndUncertainPositions(List<PageView> pages) {
         Map<String, Object> deferredTaxData = new HashMap<>();
-        String rightPage = findPageWithText(pages, "Deferred Tax Assets and Liabilities");
+        PageView rightPage = findPageWithText(pages, "Deferred Tax Assets and Liabilities");
         if (rightPage != null) {
             deferredTaxData.put("Deferred_Tax_Assets", extractDeferredTaxAssets(rightPage));
             deferredTaxData.put("Deferred_Tax_Liabilities", extractDeferredTaxLiabilities(rightPage));
@@ -477,22 +507,22 @@ public class FinancialReportParser {
         return CompletableFuture.completedFuture(deferredTaxData);
     }
 
-    private Map<String, Object> extractDeferredTaxAssets(String rightPage) {
+    private Map<String, Object> extractDeferredTaxAssets(PageView rightPage) {
         Map<String, Object> deferredTaxAssets = new HashMap<>();
         deferredTaxAssets.put("Total_Deferred_Tax_Assets", parseFieldForYear(rightPage, "Total deferred tax assets"));
         return deferredTaxAssets;
     }
 
-    private Map<String, Object> extractDeferredTaxLiabilities(String rightPage) {
+    private Map<String, Object> extractDeferredTaxLiabilities(PageView rightPage) {
         Map<String, Object> deferredTaxLiabilities = new HashMap<>();
         deferredTaxLiabilities.put("Total_Deferred_Tax_Liabilities", parseFieldForYear(rightPage, "Total deferred tax liabilities"));
         return deferredTaxLiabilities;
     }
 
     @Async("asyncExecutor")
-    public CompletableFuture<Map<String, Object>> extractCommercialPaper(String[] pages) {
+    public CompletableFuture<Map<String, Object>> extractCommercialPaper(List<PageView> pages) {
         Map<String, Object> commercialPaper = new HashMap<>();
-        String rightPage = findPageWithText(pages, "Note 9 – Debt");
+        PageView rightPage = findPageWithText(pages, "Note 9 – Debt");
         if (rightPage != null) {
             commercialPaper.put("Proceeds_Repayments_Net", parseFieldForYear(rightPage, "Proceeds from/(Repayments of) commercial paper, net"));
         }
@@ -500,9 +530,9 @@ public class FinancialReportParser {
     }
 
     @Async("asyncExecutor")
-    public CompletableFuture<Map<String, Object>> extractLeaseLiabilityMaturities(String[] pages) {
+    public CompletableFuture<Map<String, Object>> extractLeaseLiabilityMaturities(List<PageView> pages) {
         Map<String, Object> leaseMaturities = new HashMap<>();
-        String rightPage = findPageWithText(pages, "Note 9 – Debt");
+        PageView rightPage = findPageWithText(pages, "Note 9 – Debt");
         if (rightPage != null) {
             leaseMaturities.put("Operating_Leases", parseFieldForYear(rightPage, "Total lease liabilities"));
         }
@@ -510,9 +540,9 @@ public class FinancialReportParser {
     }
 
     @Async("asyncExecutor")
-    public CompletableFuture<Map<String, Object>> extractTermDebt(String[] pages) {
+    public CompletableFuture<Map<String, Object>> extractTermDebt(List<PageView> pages) {
         Map<String, Object> termDebtData = new HashMap<>();
-        String rightPage = findPageWithText(pages, "Note 10 – Shareholders’ Equity");
+        PageView rightPage = findPageWithText(pages, "Note 10 – Shareholders’ Equity");
         if (rightPage != null) {
             termDebtData.put("Total_Term_Debt_Principal", parseFieldForYear(rightPage, "Total term debt principal"));
         }
@@ -520,9 +550,9 @@ public class FinancialReportParser {
     }
 
     @Async("asyncExecutor")
-    public CompletableFuture<Map<String, Object>> extractCommonStock(String[] pages) {
+    public CompletableFuture<Map<String, Object>> extractCommonStock(List<PageView> pages) {
         Map<String, Object> commonStockData = new HashMap<>();
-        String rightPage = findPageWithText(pages, "Note 11 – Share-Based Compensation");
+        PageView rightPage = findPageWithText(pages, "Note 11 – Share-Based Compensation");
         if (rightPage != null) {
             commonStockData.put("Common_Stock_Beginning_Balance", parseFieldForYear(rightPage, "Common stock outstanding, beginning balances"));
             commonStockData.put("Common_Stock_Ending_Balance", parseFieldForYear(rightPage, "Common stock outstanding, ending balances"));
@@ -531,9 +561,9 @@ public class FinancialReportParser {
     }
 
     @Async("asyncExecutor")
-    public CompletableFuture<Map<String, Object>> extractShareBasedCompensationAndPurchaseObligations(String[] pages) {
+    public CompletableFuture<Map<String, Object>> extractShareBasedCompensationAndPurchaseObligations(List<PageView> pages) {
         Map<String, Object> data = new HashMap<>();
-        String rightPage = findPageWithText(pages, "Note 12 – Commitments, Contingencies and Supply Concentrations");
+        PageView rightPage = findPageWithText(pages, "Note 12 – Commitments, Contingencies and Supply Concentrations");
         if (rightPage != null) {
             data.put("Share_Based_Compensation_Expense", parseFieldForYear(rightPage, "Share-based compensation expense"));
         }
@@ -541,9 +571,9 @@ public class FinancialReportParser {
     }
 
     @Async("asyncExecutor")
-    public CompletableFuture<Map<String, Object>> extractSegmentInformationAndGeographicData(String[] pages) {
+    public CompletableFuture<Map<String, Object>> extractSegmentInformationAndGeographicData(List<PageView> pages) {
         Map<String, Object> data = new HashMap<>();
-        String rightPage = findPageWithText(pages, "Note 13 – Segment Information and Geographic Data");
+        PageView rightPage = findPageWithText(pages, "Note 13 – Segment Information and Geographic Data");
         if (rightPage != null) {
             data.put("Americas", parseSegmentData(rightPage, "Americas", "Net sales"));
             data.put("Europe", parseSegmentData(rightPage, "Europe", "Net sales"));
@@ -552,9 +582,9 @@ public class FinancialReportParser {
     }
 
     @Async("asyncExecutor")
-    public CompletableFuture<Map<String, Object>> extractNetSalesAndLongLivedAssets(String[] pages) {
+    public CompletableFuture<Map<String, Object>> extractNetSalesAndLongLivedAssets(List<PageView> pages) {
         Map<String, Object> data = new HashMap<>();
-        String rightPage = findPageWithText(pages, "The U.S. and China were the only countries that accounted for more than 10%");
+        PageView rightPage = findPageWithText(pages, "The U.S. and China were the only countries that accounted for more than 10%");
         if (rightPage != null) {
             data.put("Net_Sales", parseFieldForYear(rightPage, "Total net sales"));
         }
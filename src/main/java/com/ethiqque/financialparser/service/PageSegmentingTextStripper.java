@@ -0,0 +1,60 @@
+package com.ethiqque.financialparser.service;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.text.PDFTextStripper;
+
+import java.io.CharArrayWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Text stripper that records the real page boundaries while extracting text.
+ * The whole document is written into a single buffer, copied once into a
+ * right-sized String, and every page is returned as a {@link PageView} over
+ * its slice of that String.
+ */
+public class PageSegmentingTextStripper extends PDFTextStripper {
+
+    private final List<int[]> pageBounds = new ArrayList<>();
+    private CharArrayWriter writer;
+    private int pageStart;
+
+    public PageSegmentingTextStripper() throws IOException {
+        super();
+    }
+
+    /**
+     * Extracts the text of the document and segments it into pages.
+     *
+     * @param document the loaded PDF document
+     * @return one view per page, in page order, all backed by the same String
+     * @throws IOException if the text cannot be extracted
+     */
+    public List<PageView> getPages(PDDocument document) throws IOException {
+        pageBounds.clear();
+        writer = new CharArrayWriter(64 * 1024);
+        writeText(document, writer);
+
+        String text = writer.toString();
+        writer = null;
+        List<PageView> pages = new ArrayList<>(pageBounds.size());
+        for (int[] bounds : pageBounds) {
+            pages.add(new PageView(text, bounds[0], bounds[1] - bounds[0]));
+        }
+        return pages;
+    }
+
+    @Override
+    protected void startPage(PDPage page) throws IOException {
+        super.startPage(page);
+        pageStart = writer.size();
+    }
+
+    @Override
+    protected void endPage(PDPage page) throws IOException {
+        super.endPage(page);
+        pageBounds.add(new int[]{pageStart, writer.size()});
+    }
+}
@@ -0,0 +1,120 @@
+package com.ethiqque.financialparser.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read-only view of a slice of the extracted document text.
+ * All pages of a document share one backing String, so segmenting the text
+ * into pages and lines does not copy it; a new String is only created when a
+ * matched line is handed to the numeric parsing.
+ */
+public final class PageView implements CharSequence {
+
+    private final String text;
+    private final int offset;
+    private final int length;
+
+    PageView(String text, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > text.length()) {
+            throw new IndexOutOfBoundsException("offset " + offset + ", length " + length + ", text " + text.length());
+        }
+        this.text = text;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("index " + index + ", length " + length);
+        }
+        return text.charAt(offset + index);
+    }
+
+    @Override
+    public PageView subSequence(int start, int end) {
+        if (start < 0 || end > length || start > end) {
+            throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + length);
+        }
+        return new PageView(text, offset + start, end - start);
+    }
+
+    /**
+     * Returns true if this view contains the specified sequence of characters.
+     *
+     * @param needle the sequence to search for
+     * @return true if the sequence occurs in this view
+     */
+    public boolean contains(CharSequence needle) {
+        return indexOf(needle, 0) >= 0;
+    }
+
+    /**
+     * Returns the index within this view of the first occurrence of the specified
+     * sequence, starting at the given index.
+     *
+     * @param needle the sequence to search for
+     * @param fromIndex the index to start the search from
+     * @return the index of the first occurrence, or -1 if there is no such occurrence
+     */
+    public int indexOf(CharSequence needle, int fromIndex) {
+        int needleLength = needle.length();
+        if (needleLength == 0) {
+            return Math.min(Math.max(fromIndex, 0), length);
+        }
+        char first = needle.charAt(0);
+        int last = offset + length - needleLength;
+        for (int i = offset + Math.max(fromIndex, 0); i <= last; i++) {
+            if (text.charAt(i) != first) {
+                continue;
+            }
+            int j = 1;
+            while (j < needleLength && text.charAt(i + j) == needle.charAt(j)) {
+                j++;
+            }
+            if (j == needleLength) {
+                return i - offset;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Splits this view into line views on '\n' without copying the text.
+     * A '\r' before the '\n' is not part of the line, and a trailing line
+     * separator does not produce an empty last line.
+     *
+     * @return the lines of this view, in order
+     */
+    public List<PageView> lines() {
+        List<PageView> lines = new ArrayList<>();
+        int lineStart = offset;
+        int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            if (text.charAt(i) == '\n') {
+                lines.add(line(lineStart, i));
+                lineStart = i + 1;
+            }
+        }
+        if (lineStart < end) {
+            lines.add(line(lineStart, end));
+        }
+        return lines;
+    }
+
+    private PageView line(int start, int end) {
+        int lineEnd = end > start && text.charAt(end - 1) == '\r' ? end - 1 : end;
+        return new PageView(text, start, lineEnd - start);
+    }
+
+    @Override
+    public String toString() {
+        return text.substring(offset, offset + length);
+    }
+}
@@ -0,0 +1,142 @@
+package com.ethiqque.financialparser.service;
+
+import com.ethiqque.financialparser.exception.RejectedDocumentException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Cheap checks that run before the full text extraction of an uploaded report.
+ * The raw bytes are inspected for the PDF header, the end-of-file marker and an
+ * encryption dictionary, and the first few pages are sampled for a text layer and
+ * the expected issuer/form markers, so junk uploads are rejected without a full parse.
+ * Markers are matched case-insensitively, since a cover page prints "FORM 10-K" while
+ * running headers use "Form 10-K".
+ */
+@Slf4j
+@Component
+public class PdfPreflightInspector {
+
+    private static final byte[] PDF_HEADER = "%PDF-".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] EOF_MARKER = "%%EOF".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] STARTXREF_MARKER = "startxref".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] ENCRYPT_MARKER = "/Encrypt".getBytes(StandardCharsets.US_ASCII);
+
+    private static final int HEADER_WINDOW = 1024;
+    private static final int EOF_WINDOW = 1024;
+    private static final int TRAILER_WINDOW = 64 * 1024;
+
+    private final int samplePages;
+    private final int minSampleTextLength;
+    private final List<String> requiredMarkers;
+    private final List<String> normalizedMarkers;
+
+    public PdfPreflightInspector(@Value("${parser.preflight.sample-pages:3}") int samplePages,
+                                 @Value("${parser.preflight.min-text-length:200}") int minSampleTextLength,
+                                 @Value("${parser.preflight.required-markers:Apple Inc.,Form 10-K}") List<String> requiredMarkers) {
+        this.samplePages = samplePages;
+        this.minSampleTextLength = minSampleTextLength;
+        this.requiredMarkers = requiredMarkers;
+        this.normalizedMarkers = requiredMarkers.stream()
+                .map(marker -> marker.toUpperCase(Locale.ROOT))
+                .toList();
+    }
+
+    /**
+     * Inspects the raw bytes of the upload without handing them to PDFBox.
+     * Rejects empty files, files without a PDF header, truncated files and
+     * files whose trailer references an encryption dictionary.
+     *
+     * @param content the raw bytes of the uploaded file
+     * @throws RejectedDocumentException if the bytes cannot be a parseable, unencrypted PDF
+     */
+    public void inspectBytes(byte[] content) {
+        if (content == null || content.length == 0) {
+            throw new RejectedDocumentException("Uploaded file is empty");
+        }
+        if (indexOf(content, PDF_HEADER, 0, Math.min(content.length, HEADER_WINDOW)) < 0) {
+            throw new RejectedDocumentException("Uploaded file is not a PDF document");
+        }
+
+        int eofWindowStart = Math.max(0, content.length - EOF_WINDOW);
+        if (indexOf(content, EOF_MARKER, eofWindowStart, content.length) < 0) {
+            throw new RejectedDocumentException("PDF document is truncated: missing end-of-file marker");
+        }
+
+        int trailerWindowStart = Math.max(0, content.length - TRAILER_WINDOW);
+        if (lastIndexOf(content, STARTXREF_MARKER, trailerWindowStart, content.length) < 0) {
+            throw new RejectedDocumentException("PDF document is truncated: missing cross-reference table");
+        }
+        if (indexOf(content, ENCRYPT_MARKER, trailerWindowStart, content.length) >= 0) {
+            throw new RejectedDocumentException("PDF document is encrypted");
+        }
+    }
+
+    /**
+     * Samples the first pages of an already loaded document. Rejects documents that
+     * are encrypted, have no pages, carry no text layer (e.g. scanned images) or do not
+     * contain the expected issuer/form markers.
+     *
+     * @param document the loaded PDF document
+     * @throws IOException if the sample pages cannot be stripped
+     * @throws RejectedDocumentException if the document is not a supported report
+     */
+    public void inspectDocument(PDDocument document) throws IOException {
+        if (document.isEncrypted()) {
+            throw new RejectedDocumentException("PDF document is encrypted");
+        }
+        if (document.getNumberOfPages() == 0) {
+            throw new RejectedDocumentException("PDF document has no pages");
+        }
+
+        PDFTextStripper sampleStripper = new PDFTextStripper();
+        sampleStripper.setStartPage(1);
+        sampleStripper.setEndPage(Math.min(samplePages, document.getNumberOfPages()));
+        String sample = sampleStripper.getText(document);
+
+        if (sample.strip().length() < minSampleTextLength) {
+            throw new RejectedDocumentException("PDF document has no text layer; scanned documents are not supported");
+        }
+        String normalizedSample = sample.toUpperCase(Locale.ROOT);
+        for (int i = 0; i < normalizedMarkers.size(); i++) {
+            if (!normalizedSample.contains(normalizedMarkers.get(i))) {
+                throw new RejectedDocumentException("PDF document is not a supported report: missing '" + requiredMarkers.get(i) + "'");
+            }
+        }
+        log.info("Pre-flight passed for document with {} pages", document.getNumberOfPages());
+    }
+
+    private int indexOf(byte[] content, byte[] pattern, int from, int to) {
+        for (int i = from; i <= to - pattern.length; i++) {
+            if (matchesAt(content, pattern, i)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int lastIndexOf(byte[] content, byte[] pattern, int from, int to) {
+        for (int i = to - pattern.length; i >= from; i--) {
+            if (matchesAt(content, pattern, i)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean matchesAt(byte[] content, byte[] pattern, int offset) {
+        for (int j = 0; j < pattern.length; j++) {
+            if (content[offset + j] != pattern[j]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,460 @@
+package com.ethiqque.financialparser.service;
+
+import com.ethiqque.financialparser.exception.InvalidFileException;
+import com.ethiqque.financialparser.exception.RejectedDocumentException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ScheduledFuture;
+import java.util.regex.Pattern;
+
+/**
+ * Shares parsing work between several service instances through a shared spool directory.
+ *
+ * Uploads are spooled under the SHA-256 hash of their content, so duplicate uploads on
+ * different nodes map to the same job. A node claims a job by creating its lease file and
+ * keeps the lease alive by touching it while parsing; a lease whose heartbeat is older
+ * than the lease duration is considered abandoned and may be taken over by any node.
+ * Results and rejections are written to a temporary file and atomically renamed into place,
+ * so any node can serve them. Because a result depends only on the content, processing
+ * a job twice after a lease takeover race is harmless.
+ *
+ * Only documents rejected by the parser are recorded as failures, and those records
+ * expire after the failure TTL so configuration changes and fixes take effect. A job
+ * whose parse fails in any other way, including runtime exceptions thrown by PDFBox on
+ * malformed input, is left in the spool for a retry, and is dropped without recording
+ * anything once it has failed the maximum number of attempts.
+ *
+ * Lease expiry is judged from file modification times, so nodes need reasonably
+ * synchronized clocks.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "parser.spool.enabled", havingValue = "true")
+public class SpoolCoordinator {
+
+    private static final Pattern JOB_ID_PATTERN = Pattern.compile("[0-9a-f]{64}");
+    private static final String JOB_SUFFIX = ".pdf";
+    private static final String LEASE_SUFFIX = ".lease";
+    private static final String RESULT_SUFFIX = ".json";
+    private static final String FAILURE_SUFFIX = ".failed";
+    private static final String ATTEMPTS_SUFFIX = ".attempts";
+
+    private final FinancialReportParser reportParser;
+    private final PdfPreflightInspector preflightInspector;
+    private final ObjectMapper objectMapper;
+    private final TaskScheduler spoolScheduler;
+
+    private final Path jobsDir;
+    private final Path leasesDir;
+    private final Path resultsDir;
+    private final Path tmpDir;
+    private final String nodeId;
+    private final Duration leaseDuration;
+    private final Duration heartbeatInterval;
+    private final Duration awaitTimeout;
+    private final Duration pollInterval;
+    private final Duration failureTtl;
+    private final int maxAttempts;
+
+    public SpoolCoordinator(FinancialReportParser reportParser,
+                            PdfPreflightInspector preflightInspector,
+                            ObjectMapper objectMapper,
+                            @Qualifier("spoolScheduler") TaskScheduler spoolScheduler,
+                            @Value("${parser.spool.directory}") String directory,
+                            @Value("${parser.spool.node-id:}") String nodeId,
+                            @Value("${parser.spool.lease-duration-ms:30000}") long leaseDurationMs,
+                            @Value("${parser.spool.await-timeout-ms:60000}") long awaitTimeoutMs,
+                            @Value("${parser.spool.poll-interval-ms:500}") long pollIntervalMs,
+                            @Value("${parser.spool.failure-ttl-ms:3600000}") long failureTtlMs,
+                            @Value("${parser.spool.max-attempts:3}") int maxAttempts) {
+        this.reportParser = reportParser;
+        this.preflightInspector = preflightInspector;
+        this.objectMapper = objectMapper;
+        this.spoolScheduler = spoolScheduler;
+
+        Path root = Paths.get(directory);
+        this.jobsDir = root.resolve("jobs");
+        this.leasesDir = root.resolve("leases");
+        this.resultsDir = root.resolve("results");
+        this.tmpDir = root.resolve("tmp");
+        this.nodeId = nodeId.isBlank() ? defaultNodeId() : nodeId;
+        this.leaseDuration = Duration.ofMillis(leaseDurationMs);
+        this.heartbeatInterval = Duration.ofMillis(Math.max(1, leaseDurationMs / 3));
+        this.awaitTimeout = Duration.ofMillis(awaitTimeoutMs);
+        this.pollInterval = Duration.ofMillis(pollIntervalMs);
+        this.failureTtl = Duration.ofMillis(failureTtlMs);
+        this.maxAttempts = maxAttempts;
+
+        try {
+            Files.createDirectories(jobsDir);
+            Files.createDirectories(leasesDir);
+            Files.createDirectories(resultsDir);
+            Files.createDirectories(tmpDir);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create spool directory " + root, e);
+        }
+        log.info("Spool mode enabled in {} as node {}", root, this.nodeId);
+    }
+
+    /**
+     * Computes the job id of an upload, which is the hex SHA-256 hash of its content.
+     *
+     * @param content the raw bytes of the upload
+     * @return the job id
+     */
+    public String jobId(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Spools the upload and waits for its result, processing it on this node if no
+     * other node holds a live lease on it.
+     *
+     * @param content the raw bytes of the upload
+     * @return the parsed data, or an empty Optional if the job is still being processed
+     *         by another node when the await timeout elapses
+     * @throws IOException if the spool or the PDF cannot be read or written
+     * @throws RejectedDocumentException if the document was rejected on any node
+     */
+    public Optional<Map<String, Object>> submitAndAwait(byte[] content) throws IOException {
+        preflightInspector.inspectBytes(content);
+        String jobId = jobId(content);
+
+        Optional<Map<String, Object>> existing = findResult(jobId);
+        if (existing.isPresent()) {
+            log.info("Serving spooled result for job {}", jobId);
+            return existing;
+        }
+
+        writeAtomically(jobsDir.resolve(jobId + JOB_SUFFIX), content);
+
+        Instant deadline = Instant.now().plus(awaitTimeout);
+        while (true) {
+            if (tryClaim(jobId)) {
+                return Optional.of(processClaimed(jobId, content));
+            }
+            Optional<Map<String, Object>> result = findResult(jobId);
+            if (result.isPresent()) {
+                return result;
+            }
+            if (Instant.now().isAfter(deadline)) {
+                log.info("Job {} is still processing on another node", jobId);
+                return Optional.empty();
+            }
+            try {
+                Thread.sleep(pollInterval.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Optional.empty();
+            }
+        }
+    }
+
+    /**
+     * Looks up the spooled result of a job.
+     *
+     * @param jobId the job id returned for the upload
+     * @return the parsed data, or an empty Optional if no result has been written yet
+     * @throws IOException if the result cannot be read
+     * @throws RejectedDocumentException if the document was rejected within the failure TTL
+     */
+    public Optional<Map<String, Object>> findResult(String jobId) throws IOException {
+        validateJobId(jobId);
+        Path failure = resultsDir.resolve(jobId + FAILURE_SUFFIX);
+        try {
+            if (Files.getLastModifiedTime(failure).toInstant().plus(failureTtl).isBefore(Instant.now())) {
+                Files.deleteIfExists(failure);
+            } else {
+                throw new RejectedDocumentException(Files.readString(failure, StandardCharsets.UTF_8));
+            }
+        } catch (NoSuchFileException e) {
+            // no rejection recorded
+        }
+        try {
+            byte[] result = Files.readAllBytes(resultsDir.resolve(jobId + RESULT_SUFFIX));
+            return Optional.of(objectMapper.readValue(result, new TypeReference<Map<String, Object>>() {}));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns true if the job has been spooled and has no result yet.
+     *
+     * @param jobId the job id returned for the upload
+     * @return true if the job is waiting or being processed
+     */
+    public boolean isPending(String jobId) {
+        validateJobId(jobId);
+        return Files.exists(jobsDir.resolve(jobId + JOB_SUFFIX));
+    }
+
+    /**
+     * Periodically picks up spooled jobs whose lease is missing or expired, so a job
+     * is finished even if the node that received it died mid-parse.
+     */
+    @Scheduled(fixedDelayString = "${parser.spool.sweep-interval-ms:15000}")
+    public void sweepAbandonedJobs() {
+        try (DirectoryStream<Path> jobs = Files.newDirectoryStream(jobsDir, "*" + JOB_SUFFIX)) {
+            for (Path job : jobs) {
+                String fileName = job.getFileName().toString();
+                String jobId = fileName.substring(0, fileName.length() - JOB_SUFFIX.length());
+                if (!JOB_ID_PATTERN.matcher(jobId).matches()) {
+                    continue;
+                }
+                // One bad job must not end the sweep and starve the jobs listed after it.
+                try {
+                    if (!tryClaim(jobId)) {
+                        continue;
+                    }
+                    log.info("Recovering abandoned job {}", jobId);
+                    processClaimed(jobId, Files.readAllBytes(job));
+                } catch (NoSuchFileException e) {
+                    releaseLease(jobId);
+                } catch (IOException | RuntimeException e) {
+                    log.error("Error recovering job {}: {}", jobId, e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            log.error("Error sweeping spool: {}", e.getMessage());
+        }
+    }
+
+    private Map<String, Object> processClaimed(String jobId, byte[] content) throws IOException {
+        LeaseClaim claim = new LeaseClaim(jobId);
+        ScheduledFuture<?> heartbeat = spoolScheduler.scheduleAtFixedRate(claim::renew, heartbeatInterval);
+        try {
+            Optional<Map<String, Object>> existing = findResult(jobId);
+            if (existing.isPresent()) {
+                removeJob(jobId);
+                return existing.get();
+            }
+
+            Map<String, Object> data;
+            try {
+                data = reportParser.parsePdf(content);
+            } catch (RejectedDocumentException e) {
+                recordRejection(jobId, e.getMessage());
+                throw e;
+            } catch (IOException | RuntimeException e) {
+                recordFailedAttempt(jobId);
+                throw e;
+            }
+
+            writeAtomically(resultsDir.resolve(jobId + RESULT_SUFFIX), objectMapper.writeValueAsBytes(data));
+            removeJob(jobId);
+            log.info("Job {} processed on node {}", jobId, nodeId);
+            return data;
+        } finally {
+            heartbeat.cancel(false);
+            claim.release();
+        }
+    }
+
+    private void recordRejection(String jobId, String message) throws IOException {
+        String reason = message == null ? "PDF document is not a supported report" : message;
+        writeAtomically(resultsDir.resolve(jobId + FAILURE_SUFFIX), reason.getBytes(StandardCharsets.UTF_8));
+        removeJob(jobId);
+    }
+
+    private void recordFailedAttempt(String jobId) throws IOException {
+        Path attemptsFile = jobsDir.resolve(jobId + ATTEMPTS_SUFFIX);
+        int attempts = 1;
+        try {
+            attempts += Integer.parseInt(Files.readString(attemptsFile, StandardCharsets.UTF_8).trim());
+        } catch (NoSuchFileException | NumberFormatException e) {
+            // first failed attempt
+        }
+        if (attempts >= maxAttempts) {
+            log.warn("Dropping job {} after {} failed attempts", jobId, attempts);
+            removeJob(jobId);
+        } else {
+            writeAtomically(attemptsFile, Integer.toString(attempts).getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private void removeJob(String jobId) throws IOException {
+        Files.deleteIfExists(jobsDir.resolve(jobId + JOB_SUFFIX));
+        Files.deleteIfExists(jobsDir.resolve(jobId + ATTEMPTS_SUFFIX));
+    }
+
+    private boolean tryClaim(String jobId) throws IOException {
+        Path lease = leasesDir.resolve(jobId + LEASE_SUFFIX);
+        if (createLease(lease)) {
+            return true;
+        }
+        if (!isExpired(lease)) {
+            return false;
+        }
+
+        // Move the stale lease aside first, so only one node can break it.
+        Path stale = leasesDir.resolve(jobId + "." + UUID.randomUUID() + ".stale");
+        try {
+            Files.move(lease, stale, StandardCopyOption.ATOMIC_MOVE);
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+        if (!isExpired(stale)) {
+            // The owner renewed it in the meantime; hand it back without replacing a
+            // lease another node may have created since.
+            restoreLease(stale, lease);
+            return false;
+        }
+        log.warn("Taking over expired lease of job {} held by {}", jobId, readLeaseOwner(stale));
+        Files.deleteIfExists(stale);
+        return createLease(lease);
+    }
+
+    private void restoreLease(Path stale, Path lease) throws IOException {
+        try {
+            Files.createLink(lease, stale);
+        } catch (FileAlreadyExistsException e) {
+            log.info("Lease {} was claimed by another node while being restored", lease.getFileName());
+        } catch (UnsupportedOperationException e) {
+            log.warn("Spool filesystem does not support hard links; lease {} is left to its owner to recreate", lease.getFileName());
+        } finally {
+            Files.deleteIfExists(stale);
+        }
+    }
+
+    private boolean createLease(Path lease) throws IOException {
+        try {
+            Files.write(lease, nodeId.getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+            return true;
+        } catch (FileAlreadyExistsException e) {
+            return false;
+        }
+    }
+
+    private boolean isExpired(Path lease) throws IOException {
+        try {
+            Instant heartbeat = Files.getLastModifiedTime(lease).toInstant();
+            return heartbeat.plus(leaseDuration).isBefore(Instant.now());
+        } catch (NoSuchFileException e) {
+            return true;
+        }
+    }
+
+    private void renewLease(String jobId) {
+        Path lease = leasesDir.resolve(jobId + LEASE_SUFFIX);
+        try {
+            String owner = readLeaseOwner(lease);
+            if (owner == null && createLease(lease)) {
+                log.info("Recreated missing lease of job {}", jobId);
+                return;
+            }
+            if (!nodeId.equals(owner)) {
+                log.warn("Lost lease of job {}", jobId);
+                return;
+            }
+            Files.setLastModifiedTime(lease, FileTime.from(Instant.now()));
+        } catch (IOException e) {
+            log.warn("Error renewing lease of job {}: {}", jobId, e.getMessage());
+        }
+    }
+
+    private void releaseLease(String jobId) {
+        Path lease = leasesDir.resolve(jobId + LEASE_SUFFIX);
+        try {
+            if (nodeId.equals(readLeaseOwner(lease))) {
+                Files.deleteIfExists(lease);
+            }
+        } catch (IOException e) {
+            log.warn("Error releasing lease of job {}: {}", jobId, e.getMessage());
+        }
+    }
+
+    /**
+     * Serializes heartbeats with the release of a lease. Cancelling the heartbeat does not
+     * wait for a renewal that is already running, and such a renewal would otherwise
+     * recreate the lease right after it was released, blocking retries of the job until
+     * the orphan lease expires.
+     */
+    private final class LeaseClaim {
+
+        private final String jobId;
+        private boolean released;
+
+        private LeaseClaim(String jobId) {
+            this.jobId = jobId;
+        }
+
+        synchronized void renew() {
+            if (!released) {
+                renewLease(jobId);
+            }
+        }
+
+        synchronized void release() {
+            released = true;
+            releaseLease(jobId);
+        }
+    }
+
+    private String readLeaseOwner(Path lease) throws IOException {
+        try {
+            return Files.readString(lease, StandardCharsets.UTF_8);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    private void writeAtomically(Path target, byte[] content) throws IOException {
+        Path tmp = tmpDir.resolve(target.getFileName() + "." + UUID.randomUUID() + ".tmp");
+        try {
+            Files.write(tmp, content, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE, StandardOpenOption.SYNC);
+            Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private void validateJobId(String jobId) {
+        if (jobId == null || !JOB_ID_PATTERN.matcher(jobId).matches()) {
+            throw new InvalidFileException("Invalid job id: " + jobId);
+        }
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (IOException e) {
+            host = "unknown";
+        }
+        return host + "-" + ProcessHandle.current().pid() + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
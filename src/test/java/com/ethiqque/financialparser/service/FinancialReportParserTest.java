@@ -0,0 +1,82 @@
+package com.ethiqque.financialparser.service;
+
+import com.ethiqque.financialparser.support.PdfFixtures;
+import com.ethiqque.financialparser.support.SyntheticReportGenerator;
+import com.ethiqque.financialparser.support.SyntheticReportGenerator.SyntheticReport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static com.ethiqque.financialparser.support.ParsedDataAssertions.assertMatchesExpected;
+import static com.ethiqque.financialparser.support.ParsedDataAssertions.flatten;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FinancialReportParserTest {
+
+    private FinancialReportParser reportParser;
+
+    @BeforeEach
+    void setUp() {
+        reportParser = new FinancialReportParser(new PdfPreflightInspector(3, 200, List.of("Apple Inc.", "Form 10-K")));
+    }
+
+    @Test
+    void extractsKnownValuesFromSyntheticReport() throws IOException {
+        SyntheticReport report = SyntheticReportGenerator.builder()
+                .pageCount(16)
+                .build()
+                .generate();
+
+        Map<String, Object> parsedData = reportParser.parsePdf(report.content());
+
+        assertEquals(report.expected().keySet(), flatten(parsedData).keySet());
+        assertMatchesExpected(report.expected(), parsedData);
+    }
+
+    @Test
+    void extractsKnownValuesWithoutNoise() throws IOException {
+        SyntheticReport report = SyntheticReportGenerator.builder()
+                .pageCount(SyntheticReportGenerator.MIN_PAGE_COUNT)
+                .footnoteMarkers(false)
+                .parenthesizedNegatives(false)
+                .exhibits(false)
+                .seed(7L)
+                .build()
+                .generate();
+
+        assertMatchesExpected(report.expected(), reportParser.parsePdf(report.content()));
+    }
+
+    @Test
+    void keepsSmallParenthesizedNegativeAfterLabel() throws IOException {
+        byte[] content = PdfFixtures.document(cashFlowPage("Cash used in investing activities (42) (1,234)"));
+
+        Map<String, Object> parsedData = reportParser.parsePdf(content);
+
+        assertMatchesExpected(Map.of("Cash_Flow_Statement.Cash_Used_in_Investing_Activities", -42.0), parsedData);
+    }
+
+    @Test
+    void stripsFootnoteMarkerBeforeValue() throws IOException {
+        byte[] content = PdfFixtures.document(cashFlowPage("Cash used in investing activities (1) (1,234) (5,678)"));
+
+        Map<String, Object> parsedData = reportParser.parsePdf(content);
+
+        assertMatchesExpected(Map.of("Cash_Flow_Statement.Cash_Used_in_Investing_Activities", -1234.0), parsedData);
+    }
+
+    private List<String> cashFlowPage(String row) {
+        List<String> lines = new ArrayList<>();
+        lines.add("Apple Inc. | 2023 Form 10-K");
+        for (int i = 0; i < 4; i++) {
+            lines.add("Annual report filler text that gives the sampled pages a real text layer.");
+        }
+        lines.add("CONSOLIDATED STATEMENTS OF CASH FLOWS");
+        lines.add(row);
+        return lines;
+    }
+}
@@ -0,0 +1,120 @@
+package com.ethiqque.financialparser.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PageViewTest {
+
+    private static PageView view(String text) {
+        return new PageView(text, 0, text.length());
+    }
+
+    private static List<String> lines(PageView view) {
+        return view.lines().stream().map(PageView::toString).toList();
+    }
+
+    @Test
+    void emptyNeedleMatchesAtFromIndexClampedToLength() {
+        PageView page = view("abc");
+
+        assertEquals(0, page.indexOf("", 0));
+        assertEquals(2, page.indexOf("", 2));
+        assertEquals(3, page.indexOf("", 10));
+        assertEquals(0, page.indexOf("", -1));
+        assertTrue(page.contains(""));
+    }
+
+    @Test
+    void fromIndexBeyondLengthFindsNothing() {
+        PageView page = view("abcabc");
+
+        assertEquals(-1, page.indexOf("a", 6));
+        assertEquals(-1, page.indexOf("a", 100));
+        assertEquals(3, page.indexOf("a", 1));
+        assertEquals(0, page.indexOf("a", -5));
+    }
+
+    @Test
+    void findsMatchAtLastPosition() {
+        PageView page = view("Total net sales 383,285");
+
+        assertEquals(22, page.indexOf("5", 0));
+        assertEquals(16, page.indexOf("383,285", 0));
+        assertTrue(page.contains("383,285"));
+    }
+
+    @Test
+    void needleLongerThanViewFindsNothing() {
+        PageView page = view("abc");
+
+        assertEquals(-1, page.indexOf("abcd", 0));
+        assertFalse(page.contains("abcd"));
+    }
+
+    @Test
+    void searchDoesNotSeeTextOutsideTheView() {
+        PageView page = new PageView("xxabcxx", 2, 3);
+
+        assertEquals("abc", page.toString());
+        assertEquals(0, page.indexOf("abc", 0));
+        assertFalse(page.contains("xa"));
+        assertFalse(page.contains("cx"));
+        assertEquals(-1, page.indexOf("abcx", 0));
+    }
+
+    @Test
+    void splitsLinesKeepingInnerEmptyLinesAndDroppingTrailingSeparator() {
+        assertEquals(List.of("a", "", "b"), lines(view("a\n\nb\n")));
+        assertEquals(List.of("", "a"), lines(view("\na")));
+        assertEquals(List.of("a"), lines(view("a")));
+        assertEquals(List.of(), lines(view("")));
+        assertEquals(List.of("", ""), lines(view("\n\n")));
+    }
+
+    @Test
+    void splitsCrLfLinesWithoutCarriageReturn() {
+        assertEquals(List.of("Net income 96,995", "", "Basic 6.16"), lines(view("Net income 96,995\r\n\r\nBasic 6.16\r\n")));
+        assertEquals(List.of("a", "b"), lines(view("a\r\nb\r")));
+    }
+
+    @Test
+    void slicesOfASliceStayWithinTheirBounds() {
+        PageView page = new PageView("0123456789", 2, 6);
+        PageView slice = page.subSequence(1, 5);
+        PageView sliceOfSlice = slice.subSequence(1, 3);
+
+        assertEquals("234567", page.toString());
+        assertEquals("3456", slice.toString());
+        assertEquals("45", sliceOfSlice.toString());
+        assertEquals('4', sliceOfSlice.charAt(0));
+        assertEquals(0, sliceOfSlice.indexOf("45", 0));
+        assertFalse(sliceOfSlice.contains("3"));
+        assertFalse(sliceOfSlice.contains("6"));
+        assertEquals(List.of("45"), lines(sliceOfSlice));
+        assertEquals("", sliceOfSlice.subSequence(2, 2).toString());
+    }
+
+    @Test
+    void linesOfASliceIgnoreSeparatorsOutsideIt() {
+        PageView page = new PageView("a\nbc\nd", 2, 2);
+
+        assertEquals(List.of("bc"), lines(page));
+    }
+
+    @Test
+    void rejectsOutOfBoundsAccess() {
+        PageView page = new PageView("0123456789", 2, 3);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> page.charAt(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> page.charAt(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> page.subSequence(2, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> page.subSequence(2, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> new PageView("abc", 2, 2));
+    }
+}
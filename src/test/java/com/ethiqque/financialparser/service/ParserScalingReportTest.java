@@ -0,0 +1,230 @@
+package com.ethiqque.financialparser.service;
+
+import com.ethiqque.financialparser.support.SyntheticReportGenerator;
+import com.ethiqque.financialparser.support.SyntheticReportGenerator.SyntheticReport;
+import com.sun.management.GarbageCollectionNotificationInfo;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.lang.ref.Reference;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+
+import static com.ethiqque.financialparser.support.ParsedDataAssertions.assertMatchesExpected;
+
+/**
+ * Parses synthetic reports of increasing size and records parse time and heap usage
+ * against document size. Excluded from the regular test run; execute it with
+ * {@code ./gradlew scalingReport} (optionally {@code -PscalingPages=20,100,1000}).
+ * The report is written as CSV to {@code build/reports/scaling}.
+ *
+ * Columns:
+ * peak_heap_mb is the highest whole-heap occupancy sampled during the parse, above the
+ * post-GC baseline taken before it; live_after_gc_mb is the highest heap occupancy left
+ * after any collection during the parse, above the same baseline (0 if no collection ran);
+ * retained_text_mb is the heap still held by the extracted page views once the document
+ * is closed and a collection has run.
+ */
+@Slf4j
+@Tag("scaling")
+class ParserScalingReportTest {
+
+    private static final String DEFAULT_PAGE_COUNTS = "20,50,100,250,500,1000";
+    private static final int TABLE_ROWS_PER_PAGE = 30;
+    private static final int WARMUP_RUNS = 2;
+    private static final double MB = 1024.0 * 1024.0;
+
+    private final FinancialReportParser reportParser =
+            new FinancialReportParser(new PdfPreflightInspector(3, 200, List.of("Apple Inc.", "Form 10-K")));
+
+    @Test
+    void recordsParseTimeAndHeapUsageAgainstDocumentSize() throws IOException {
+        int[] pageCounts = Arrays.stream(System.getProperty("scaling.pages", DEFAULT_PAGE_COUNTS).split(","))
+                .map(String::trim)
+                .mapToInt(Integer::parseInt)
+                .toArray();
+
+        warmUp();
+
+        List<String> rows = new ArrayList<>();
+        rows.add("pages,bytes,text_chars,parse_ms,ms_per_page,peak_heap_mb,live_after_gc_mb,retained_text_mb");
+        double firstMsPerPage = 0;
+        double lastMsPerPage = 0;
+        for (int pageCount : pageCounts) {
+            SyntheticReport report = SyntheticReportGenerator.builder()
+                    .pageCount(pageCount)
+                    .tableRowsPerPage(TABLE_ROWS_PER_PAGE)
+                    .build()
+                    .generate();
+
+            Map<String, Object> parsedData;
+            double parseMs;
+            double peakHeapMb;
+            double liveAfterGcMb;
+            try (HeapSampler heapSampler = new HeapSampler()) {
+                long start = System.nanoTime();
+                parsedData = reportParser.parsePdf(report.content());
+                parseMs = (System.nanoTime() - start) / 1_000_000.0;
+                heapSampler.stop();
+                peakHeapMb = heapSampler.peakUsedAboveBaseline() / MB;
+                liveAfterGcMb = heapSampler.peakLiveAboveBaseline() / MB;
+            }
+
+            assertMatchesExpected(report.expected(), parsedData);
+
+            TextFootprint text = measureTextFootprint(report.content());
+
+            double msPerPage = parseMs / pageCount;
+            if (rows.size() == 1) {
+                firstMsPerPage = msPerPage;
+            }
+            lastMsPerPage = msPerPage;
+            rows.add(String.format("%d,%d,%d,%.1f,%.3f,%.1f,%.1f,%.2f", pageCount, report.content().length, text.chars(),
+                    parseMs, msPerPage, peakHeapMb, liveAfterGcMb, text.retainedBytes() / MB));
+            log.info("Parsed {} pages ({} bytes) in {} ms, peak heap {} MB, live after GC {} MB, retained text {} MB",
+                    pageCount, report.content().length, String.format("%.1f", parseMs), String.format("%.1f", peakHeapMb),
+                    String.format("%.1f", liveAfterGcMb), String.format("%.2f", text.retainedBytes() / MB));
+        }
+
+        Path reportFile = Paths.get(System.getProperty("scaling.reportDir", "build/reports/scaling")).resolve("parse-scaling.csv");
+        Files.createDirectories(reportFile.getParent());
+        Files.write(reportFile, rows);
+        log.info("Scaling report written to {}", reportFile.toAbsolutePath());
+
+        if (firstMsPerPage > 0 && lastMsPerPage > 2 * firstMsPerPage) {
+            log.warn("Parse time per page grew {}x from the smallest to the largest document; check for super-linear behavior",
+                    String.format("%.1f", lastMsPerPage / firstMsPerPage));
+        }
+    }
+
+    private void warmUp() throws IOException {
+        byte[] content = SyntheticReportGenerator.builder().build().generate().content();
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            reportParser.parsePdf(content);
+        }
+    }
+
+    private TextFootprint measureTextFootprint(byte[] content) throws IOException {
+        System.gc();
+        long before = usedHeap();
+        List<PageView> pages;
+        try (PDDocument document = reportParser.loadDocument(content)) {
+            pages = new PageSegmentingTextStripper().getPages(document);
+        }
+        System.gc();
+        long after = usedHeap();
+        long chars = pages.stream().mapToLong(PageView::length).sum();
+        Reference.reachabilityFence(pages);
+        return new TextFootprint(chars, Math.max(0, after - before));
+    }
+
+    private static long usedHeap() {
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private record TextFootprint(long chars, long retainedBytes) {
+    }
+
+    /**
+     * Samples whole-heap occupancy on a background thread and listens for collections,
+     * so the peak is taken at one point in time instead of summing per-pool peaks.
+     */
+    private static final class HeapSampler implements AutoCloseable {
+
+        private final Set<String> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .map(MemoryPoolMXBean::getName)
+                .collect(Collectors.toSet());
+        private final List<Runnable> deregistrations = new ArrayList<>();
+        private final long baseline;
+        private final AtomicLong peakUsed;
+        private final AtomicLong peakLiveAfterGc;
+        private final Thread sampler;
+        private volatile boolean running = true;
+
+        HeapSampler() {
+            System.gc();
+            baseline = usedHeap();
+            peakUsed = new AtomicLong(baseline);
+            peakLiveAfterGc = new AtomicLong(baseline);
+
+            NotificationListener listener = (notification, handback) -> {
+                if (running && GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+                    GarbageCollectionNotificationInfo info = GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+                    long live = 0;
+                    for (Map.Entry<String, MemoryUsage> pool : info.getGcInfo().getMemoryUsageAfterGc().entrySet()) {
+                        if (heapPools.contains(pool.getKey())) {
+                            live += pool.getValue().getUsed();
+                        }
+                    }
+                    peakLiveAfterGc.accumulateAndGet(live, Math::max);
+                }
+            };
+            for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+                if (collector instanceof NotificationEmitter emitter) {
+                    emitter.addNotificationListener(listener, null, null);
+                    deregistrations.add(() -> {
+                        try {
+                            emitter.removeNotificationListener(listener);
+                        } catch (ListenerNotFoundException e) {
+                            // already removed
+                        }
+                    });
+                }
+            }
+
+            sampler = new Thread(() -> {
+                while (running) {
+                    peakUsed.accumulateAndGet(usedHeap(), Math::max);
+                    LockSupport.parkNanos(200_000);
+                }
+            }, "heap-sampler");
+            sampler.setDaemon(true);
+            sampler.start();
+        }
+
+        void stop() {
+            running = false;
+            try {
+                sampler.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        long peakUsedAboveBaseline() {
+            return Math.max(0, peakUsed.get() - baseline);
+        }
+
+        long peakLiveAboveBaseline() {
+            return Math.max(0, peakLiveAfterGc.get() - baseline);
+        }
+
+        @Override
+        public void close() {
+            stop();
+            deregistrations.forEach(Runnable::run);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.ethiqque.financialparser.service;
+
+import com.ethiqque.financialparser.exception.RejectedDocumentException;
+import com.ethiqque.financialparser.support.PdfFixtures;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PdfPreflightInspectorTest {
+
+    private static final List<String> COVER_LINES =
+            Collections.nCopies(10, "Apple Inc. | 2023 Form 10-K | Annual report with enough text on the cover page.");
+
+    private PdfPreflightInspector preflightInspector;
+    private FinancialReportParser reportParser;
+
+    @BeforeEach
+    void setUp() {
+        preflightInspector = new PdfPreflightInspector(3, 200, List.of("Apple Inc.", "Form 10-K"));
+        reportParser = new FinancialReportParser(preflightInspector);
+    }
+
+    @Test
+    void acceptsUnencryptedReport() throws IOException {
+        byte[] content = PdfFixtures.document(COVER_LINES);
+
+        assertDoesNotThrow(() -> preflightInspector.inspectBytes(content));
+        try (PDDocument document = reportParser.loadDocument(content)) {
+            assertDoesNotThrow(() -> preflightInspector.inspectDocument(document));
+        }
+    }
+
+    @Test
+    void acceptsCoverPageWithUpperCaseFormMarker() throws IOException {
+        byte[] content = PdfFixtures.document(List.of(
+                "UNITED STATES",
+                "SECURITIES AND EXCHANGE COMMISSION",
+                "Washington, D.C. 20549",
+                "FORM 10-K",
+                "ANNUAL REPORT PURSUANT TO SECTION 13 OR 15(d) OF THE SECURITIES EXCHANGE ACT OF 1934",
+                "For the fiscal year ended September 30, 2023",
+                "Apple Inc.",
+                "(Exact name of Registrant as specified in its charter)"));
+
+        try (PDDocument document = reportParser.loadDocument(content)) {
+            assertDoesNotThrow(() -> preflightInspector.inspectDocument(document));
+        }
+    }
+
+    @Test
+    void rejectsEmptyUpload() {
+        RejectedDocumentException e = assertThrows(RejectedDocumentException.class, () -> preflightInspector.inspectBytes(new byte[0]));
+        assertEquals("Uploaded file is empty", e.getMessage());
+    }
+
+    @Test
+    void rejectsNonPdfUpload() {
+        byte[] content = "Net sales 383,285".getBytes(StandardCharsets.UTF_8);
+
+        RejectedDocumentException e = assertThrows(RejectedDocumentException.class, () -> preflightInspector.inspectBytes(content));
+        assertEquals("Uploaded file is not a PDF document", e.getMessage());
+    }
+
+    @Test
+    void rejectsPdfTruncatedBeforeEndOfFileMarker() throws IOException {
+        byte[] content = PdfFixtures.document(COVER_LINES);
+        byte[] truncated = Arrays.copyOf(content, content.length / 2);
+
+        RejectedDocumentException e = assertThrows(RejectedDocumentException.class, () -> preflightInspector.inspectBytes(truncated));
+        assertEquals("PDF document is truncated: missing end-of-file marker", e.getMessage());
+    }
+
+    @Test
+    void rejectsPdfWithoutCrossReferenceTable() {
+        byte[] content = "%PDF-1.4\n1 0 obj\n<<>>\nendobj\n%%EOF\n".getBytes(StandardCharsets.US_ASCII);
+
+        RejectedDocumentException e = assertThrows(RejectedDocumentException.class, () -> preflightInspector.inspectBytes(content));
+        assertEquals("PDF document is truncated: missing cross-reference table", e.getMessage());
+    }
+
+    @Test
+    void rejectsDocumentWithoutTextLayer() throws IOException {
+        byte[] content = PdfFixtures.document(List.of());
+
+        try (PDDocument document = reportParser.loadDocument(content)) {
+            RejectedDocumentException e = assertThrows(RejectedDocumentException.class, () -> preflightInspector.inspectDocument(document));
+            assertEquals("PDF document has no text layer; scanned documents are not supported", e.getMessage());
+        }
+    }
+
+    @Test
+    void rejectsDocumentWithoutRequiredMarkers() throws IOException {
+        byte[] content = PdfFixtures.document(
+                Collections.nCopies(10, "Quarterly newsletter of an unrelated company with plenty of text on the page."));
+
+        try (PDDocument document = reportParser.loadDocument(content)) {
+            RejectedDocumentException e = assertThrows(RejectedDocumentException.class, () -> preflightInspector.inspectDocument(document));
+            assertEquals("PDF document is not a supported report: missing 'Apple Inc.'", e.getMessage());
+        }
+    }
+
+    @Test
+    void rejectsEncryptTrailerWithEmptyUserPassword() throws IOException {
+        byte[] content = PdfFixtures.encryptedDocument(COVER_LINES, "");
+
+        RejectedDocumentException e = assertThrows(RejectedDocumentException.class, () -> preflightInspector.inspectBytes(content));
+        assertEquals("PDF document is encrypted", e.getMessage());
+    }
+
+    @Test
+    void rejectsEncryptTrailerWithUserPassword() throws IOException {
+        byte[] content = PdfFixtures.encryptedDocument(COVER_LINES, "secret");
+
+        RejectedDocumentException e = assertThrows(RejectedDocumentException.class, () -> preflightInspector.inspectBytes(content));
+        assertEquals("PDF document is encrypted", e.getMessage());
+    }
+
+    @Test
+    void rejectsLoadedDocumentEncryptedWithEmptyUserPassword() throws IOException {
+        byte[] content = PdfFixtures.encryptedDocument(COVER_LINES, "");
+
+        try (PDDocument document = reportParser.loadDocument(content)) {
+            assertTrue(document.isEncrypted());
+            RejectedDocumentException e = assertThrows(RejectedDocumentException.class, () -> preflightInspector.inspectDocument(document));
+            assertEquals("PDF document is encrypted", e.getMessage());
+        }
+    }
+
+    @Test
+    void rejectsDocumentRequiringUserPasswordOnLoad() throws IOException {
+        byte[] content = PdfFixtures.encryptedDocument(COVER_LINES, "secret");
+
+        RejectedDocumentException e = assertThrows(RejectedDocumentException.class, () -> reportParser.loadDocument(content));
+        assertEquals("PDF document is encrypted", e.getMessage());
+    }
+
+    @Test
+    void parserRejectsEncryptedUploads() throws IOException {
+        byte[] emptyPassword = PdfFixtures.encryptedDocument(COVER_LINES, "");
+        byte[] userPassword = PdfFixtures.encryptedDocument(COVER_LINES, "secret");
+
+        assertThrows(RejectedDocumentException.class, () -> reportParser.parsePdf(emptyPassword));
+        assertThrows(RejectedDocumentException.class, () -> reportParser.parsePdf(userPassword));
+    }
+}
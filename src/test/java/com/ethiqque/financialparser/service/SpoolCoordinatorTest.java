@@ -0,0 +1,263 @@
+package com.ethiqque.financialparser.service;
+
+import com.ethiqque.financialparser.exception.RejectedDocumentException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs two coordinators with different node ids against one spool directory,
+ * the way several instances on one machine would share it.
+ */
+class SpoolCoordinatorTest {
+
+    private static final byte[] CONTENT = "%PDF-1.4\n1 0 obj\n<<>>\nendobj\nstartxref\n0\n%%EOF\n".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] OTHER_CONTENT = "%PDF-1.4\n2 0 obj\n<<>>\nendobj\nstartxref\n0\n%%EOF\n".getBytes(StandardCharsets.US_ASCII);
+    private static final Map<String, Object> RESULT = Map.of("Assets", Map.of("Cash_and_Cash_Equivalents", 29965.0));
+
+    @TempDir
+    Path spoolDir;
+
+    private final List<ThreadPoolTaskScheduler> schedulers = new ArrayList<>();
+    private StubReportParser reportParser;
+
+    @BeforeEach
+    void setUp() {
+        reportParser = new StubReportParser();
+    }
+
+    @AfterEach
+    void tearDown() {
+        schedulers.forEach(ThreadPoolTaskScheduler::shutdown);
+    }
+
+    @Test
+    void duplicateSubmitsOnTwoNodesParseOnce() throws Exception {
+        SpoolCoordinator nodeA = node("node-a", 10_000, 10_000);
+        SpoolCoordinator nodeB = node("node-b", 10_000, 10_000);
+        reportParser.delayMs = 300;
+
+        ExecutorService uploads = Executors.newFixedThreadPool(2);
+        try {
+            Future<Optional<Map<String, Object>>> onA = uploads.submit(() -> nodeA.submitAndAwait(CONTENT));
+            Future<Optional<Map<String, Object>>> onB = uploads.submit(() -> nodeB.submitAndAwait(CONTENT));
+
+            assertEquals(Optional.of(RESULT), onA.get(10, TimeUnit.SECONDS));
+            assertEquals(Optional.of(RESULT), onB.get(10, TimeUnit.SECONDS));
+        } finally {
+            uploads.shutdownNow();
+        }
+
+        String jobId = nodeA.jobId(CONTENT);
+        assertEquals(1, reportParser.parses.get());
+        assertFalse(nodeA.isPending(jobId));
+        assertFalse(Files.exists(leasePath(jobId)));
+    }
+
+    @Test
+    void expiredLeaseIsTakenOver() throws IOException {
+        SpoolCoordinator nodeB = node("node-b", 1_000, 10_000);
+        String jobId = nodeB.jobId(CONTENT);
+        writeJob(jobId);
+        writeLease(jobId, "dead-node", Instant.now().minusSeconds(60));
+
+        assertEquals(Optional.of(RESULT), nodeB.submitAndAwait(CONTENT));
+        assertEquals(1, reportParser.parses.get());
+        assertFalse(Files.exists(leasePath(jobId)));
+    }
+
+    @Test
+    void liveLeaseIsLeftAlone() throws IOException {
+        SpoolCoordinator nodeB = node("node-b", 60_000, 300);
+        String jobId = nodeB.jobId(CONTENT);
+        writeLease(jobId, "node-a", Instant.now());
+
+        assertEquals(Optional.empty(), nodeB.submitAndAwait(CONTENT));
+        assertEquals(0, reportParser.parses.get());
+        assertEquals("node-a", Files.readString(leasePath(jobId), StandardCharsets.UTF_8));
+        assertTrue(nodeB.isPending(jobId));
+    }
+
+    @Test
+    void sweepRecoversOrphanedJob() throws IOException {
+        SpoolCoordinator nodeA = node("node-a", 1_000, 10_000);
+        SpoolCoordinator nodeB = node("node-b", 1_000, 10_000);
+        String jobId = nodeA.jobId(CONTENT);
+        writeJob(jobId);
+        writeLease(jobId, "dead-node", Instant.now().minusSeconds(60));
+
+        nodeB.sweepAbandonedJobs();
+
+        assertEquals(1, reportParser.parses.get());
+        assertEquals(Optional.of(RESULT), nodeA.findResult(jobId));
+        assertFalse(nodeA.isPending(jobId));
+    }
+
+    @Test
+    void anyNodeReadsTheResult() throws IOException {
+        SpoolCoordinator nodeA = node("node-a", 10_000, 10_000);
+        SpoolCoordinator nodeB = node("node-b", 10_000, 10_000);
+
+        assertEquals(Optional.of(RESULT), nodeA.submitAndAwait(CONTENT));
+
+        String jobId = nodeA.jobId(CONTENT);
+        assertEquals(Optional.of(RESULT), nodeB.findResult(jobId));
+        assertEquals(Optional.of(RESULT), nodeB.submitAndAwait(CONTENT));
+        assertEquals(1, reportParser.parses.get());
+    }
+
+    @Test
+    void rejectionIsServedByEveryNode() throws IOException {
+        SpoolCoordinator nodeA = node("node-a", 10_000, 10_000);
+        SpoolCoordinator nodeB = node("node-b", 10_000, 10_000);
+        reportParser.failure = new RejectedDocumentException("PDF document has no text layer; scanned documents are not supported");
+
+        assertThrows(RejectedDocumentException.class, () -> nodeA.submitAndAwait(CONTENT));
+
+        String jobId = nodeA.jobId(CONTENT);
+        RejectedDocumentException e = assertThrows(RejectedDocumentException.class, () -> nodeB.findResult(jobId));
+        assertEquals("PDF document has no text layer; scanned documents are not supported", e.getMessage());
+        assertThrows(RejectedDocumentException.class, () -> nodeB.submitAndAwait(CONTENT));
+        assertEquals(1, reportParser.parses.get());
+    }
+
+    @Test
+    void ioFailureIsLeftForRetryInsteadOfRecorded() throws IOException {
+        SpoolCoordinator nodeA = node("node-a", 10_000, 10_000);
+        SpoolCoordinator nodeB = node("node-b", 10_000, 10_000);
+        reportParser.failure = new IOException("Error: End-of-File, expected line");
+
+        assertThrows(IOException.class, () -> nodeA.submitAndAwait(CONTENT));
+
+        String jobId = nodeA.jobId(CONTENT);
+        assertEquals(Optional.empty(), nodeB.findResult(jobId));
+        assertTrue(nodeB.isPending(jobId));
+        assertFalse(Files.exists(leasePath(jobId)));
+
+        reportParser.failure = null;
+        nodeB.sweepAbandonedJobs();
+
+        assertEquals(Optional.of(RESULT), nodeA.findResult(jobId));
+        assertEquals(2, reportParser.parses.get());
+    }
+
+    @Test
+    void jobIsDroppedAfterMaxAttempts() throws IOException {
+        SpoolCoordinator nodeA = node("node-a", 10_000, 10_000);
+        reportParser.failure = new IOException("Error: End-of-File, expected line");
+
+        assertThrows(IOException.class, () -> nodeA.submitAndAwait(CONTENT));
+        nodeA.sweepAbandonedJobs();
+
+        String jobId = nodeA.jobId(CONTENT);
+        assertEquals(2, reportParser.parses.get());
+        assertFalse(nodeA.isPending(jobId));
+        assertEquals(Optional.empty(), nodeA.findResult(jobId));
+    }
+
+    @Test
+    void runtimeFailureCountsAsAttemptAndDoesNotEndTheSweep() throws IOException {
+        SpoolCoordinator nodeA = node("node-a", 10_000, 10_000);
+        SpoolCoordinator nodeB = node("node-b", 10_000, 10_000);
+        reportParser.failure = new IllegalStateException("Unexpected object in content stream");
+        String first = nodeA.jobId(CONTENT);
+        String second = nodeA.jobId(OTHER_CONTENT);
+        writeJob(first, CONTENT);
+        writeJob(second, OTHER_CONTENT);
+
+        nodeA.sweepAbandonedJobs();
+
+        assertEquals(2, reportParser.parses.get());
+        assertTrue(nodeA.isPending(first));
+        assertTrue(nodeA.isPending(second));
+        assertFalse(Files.exists(leasePath(first)));
+        assertFalse(Files.exists(leasePath(second)));
+
+        nodeB.sweepAbandonedJobs();
+
+        assertEquals(4, reportParser.parses.get());
+        assertFalse(nodeB.isPending(first));
+        assertFalse(nodeB.isPending(second));
+        assertEquals(Optional.empty(), nodeB.findResult(first));
+    }
+
+    private SpoolCoordinator node(String nodeId, long leaseDurationMs, long awaitTimeoutMs) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(2);
+        scheduler.setThreadNamePrefix(nodeId + "-");
+        scheduler.initialize();
+        schedulers.add(scheduler);
+        return new SpoolCoordinator(reportParser, new PdfPreflightInspector(3, 200, List.of()), new ObjectMapper(), scheduler,
+                spoolDir.toString(), nodeId, leaseDurationMs, awaitTimeoutMs, 20, 3_600_000, 2);
+    }
+
+    private Path leasePath(String jobId) {
+        return spoolDir.resolve("leases").resolve(jobId + ".lease");
+    }
+
+    private void writeJob(String jobId) throws IOException {
+        writeJob(jobId, CONTENT);
+    }
+
+    private void writeJob(String jobId, byte[] content) throws IOException {
+        Files.write(spoolDir.resolve("jobs").resolve(jobId + ".pdf"), content);
+    }
+
+    private void writeLease(String jobId, String owner, Instant heartbeat) throws IOException {
+        Path lease = leasePath(jobId);
+        Files.writeString(lease, owner, StandardCharsets.UTF_8);
+        Files.setLastModifiedTime(lease, FileTime.from(heartbeat));
+    }
+
+    private static class StubReportParser extends FinancialReportParser {
+
+        private final AtomicInteger parses = new AtomicInteger();
+        private volatile long delayMs;
+        private volatile Exception failure;
+
+        StubReportParser() {
+            super(new PdfPreflightInspector(3, 200, List.of()));
+        }
+
+        @Override
+        public Map<String, Object> parsePdf(byte[] content) throws IOException {
+            parses.incrementAndGet();
+            if (failure instanceof IOException e) {
+                throw e;
+            }
+            if (failure instanceof RuntimeException e) {
+                throw e;
+            }
+            try {
+                Thread.sleep(delayMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return RESULT;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.ethiqque.financialparser.support;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares the nested parser output against the dotted-path expectations of a
+ * {@link SyntheticReportGenerator.SyntheticReport}.
+ */
+public final class ParsedDataAssertions {
+
+    private ParsedDataAssertions() {
+    }
+
+    public static void assertMatchesExpected(Map<String, Double> expected, Map<String, Object> parsedData) {
+        Map<String, Object> actual = flatten(parsedData);
+        for (Map.Entry<String, Double> entry : expected.entrySet()) {
+            assertTrue(actual.containsKey(entry.getKey()), "Missing field " + entry.getKey());
+            assertEquals(entry.getValue(), ((Number) actual.get(entry.getKey())).doubleValue(), 0.001, entry.getKey());
+        }
+    }
+
+    public static Map<String, Object> flatten(Map<String, Object> data) {
+        Map<String, Object> flat = new LinkedHashMap<>();
+        flatten("", data, flat);
+        return flat;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void flatten(String prefix, Map<String, Object> data, Map<String, Object> flat) {
+        for (Map.Entry<String, Object> entry : data.entrySet()) {
+            String path = prefix + entry.getKey();
+            if (entry.getValue() instanceof Map) {
+                flatten(path + ".", (Map<String, Object>) entry.getValue(), flat);
+            } else {
+                flat.put(path, entry.getValue());
+            }
+        }
+    }
+}
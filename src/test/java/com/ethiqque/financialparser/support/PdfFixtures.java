@@ -0,0 +1,74 @@
+package com.ethiqque.financialparser.support;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.encryption.AccessPermission;
+import org.apache.pdfbox.pdmodel.encryption.StandardProtectionPolicy;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Writes small single-page PDFs for tests that need exact control over the text,
+ * where a full {@link SyntheticReportGenerator} report would be too much.
+ */
+public final class PdfFixtures {
+
+    private static final float FONT_SIZE = 9f;
+    private static final float LINE_HEIGHT = 12f;
+    private static final float TOP = 700f;
+    private static final float LEFT = 72f;
+
+    private PdfFixtures() {
+    }
+
+    /**
+     * Writes one page with the given lines, top-down. An empty list gives a page
+     * without a text layer.
+     *
+     * @param lines the lines of text on the page
+     * @return the PDF bytes
+     * @throws IOException if the PDF cannot be written
+     */
+    public static byte[] document(List<String> lines) throws IOException {
+        return encryptedDocument(lines, null);
+    }
+
+    /**
+     * Writes one page with the given lines and protects it with 128-bit encryption.
+     *
+     * @param lines the lines of text on the page
+     * @param userPassword the user password, empty to allow opening without one, or null
+     *                     to leave the document unencrypted
+     * @return the PDF bytes
+     * @throws IOException if the PDF cannot be written
+     */
+    public static byte[] encryptedDocument(List<String> lines, String userPassword) throws IOException {
+        try (PDDocument document = new PDDocument();
+             ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            PDPage page = new PDPage();
+            document.addPage(page);
+            if (!lines.isEmpty()) {
+                try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                    content.setFont(PDType1Font.HELVETICA, FONT_SIZE);
+                    for (int i = 0; i < lines.size(); i++) {
+                        content.beginText();
+                        content.newLineAtOffset(LEFT, TOP - i * LINE_HEIGHT);
+                        content.showText(lines.get(i));
+                        content.endText();
+                    }
+                }
+            }
+            if (userPassword != null) {
+                StandardProtectionPolicy policy = new StandardProtectionPolicy("owner", userPassword, new AccessPermission());
+                policy.setEncryptionKeyLength(128);
+                document.protect(policy);
+            }
+            document.save(out);
+            return out.toByteArray();
+        }
+    }
+}
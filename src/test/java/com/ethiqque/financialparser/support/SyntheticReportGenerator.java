@@ -0,0 +1,447 @@
+package com.ethiqque.financialparser.support;
+
+import lombok.Builder;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.font.PDFont;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Generates statement-shaped 10-K PDFs with known values.
+ * The five primary statements and the "Note N –" pages the extractors look for are
+ * placed in the middle of the document, surrounded by narrative pages with tables and,
+ * optionally, exhibit pages. Every field of the parser output has an entry in
+ * {@link SyntheticReport#expected()} under its dotted path, so the generated document
+ * is a correctness oracle.
+ *
+ * Two fields are read from rows whose label repeats earlier on the same page, as in a
+ * real filing, and the parser takes the first match: non-current marketable securities
+ * on the balance sheet and foreign exchange contracts not designated as accounting
+ * hedges. For those the value of the first row is expected, which is what the parser
+ * returns today.
+ *
+ * About a quarter of the generated amounts are small (10 to 999), so parenthesized
+ * negatives without a thousands separator, like "(42)", sit next to footnote markers
+ * like "(1)". Single-digit amounts are not generated: "(5)" directly after a label is
+ * indistinguishable from a footnote marker, see FinancialReportParser.FOOTNOTE_MARKER.
+ */
+@Builder
+public class SyntheticReportGenerator {
+
+    public static final int STATEMENT_PAGES = 5;
+    public static final int NOTE_PAGES = 6;
+    public static final int MIN_PAGE_COUNT = 1 + STATEMENT_PAGES + NOTE_PAGES;
+
+    private static final PDFont FONT = PDType1Font.HELVETICA;
+    private static final PDFont BOLD_FONT = PDType1Font.HELVETICA_BOLD;
+    private static final float FONT_SIZE = 9f;
+    private static final float LINE_HEIGHT = 12f;
+    private static final float TOP = 740f;
+    private static final float LEFT = 72f;
+    private static final float[] VALUE_COLUMNS = {400f, 480f};
+    private static final int MAX_TABLE_ROWS = 45;
+    private static final DecimalFormatSymbols US_SYMBOLS = DecimalFormatSymbols.getInstance(Locale.US);
+
+    private static final String FOOTER = "Apple Inc. | 2023 Form 10-K";
+    private static final String[] WORDS = {
+            "lorem", "ipsum", "dolor", "sit", "amet", "consectetur", "adipiscing", "elit", "sed", "do",
+            "eiusmod", "tempor", "incididunt", "ut", "labore", "et", "dolore", "magna", "aliqua", "enim",
+            "minim", "veniam", "quis", "nostrud", "exercitation", "ullamco", "laboris", "nisi", "aliquip"
+    };
+
+    @Builder.Default
+    private final int pageCount = 20;
+    @Builder.Default
+    private final int tableRowsPerPage = 20;
+    @Builder.Default
+    private final boolean footnoteMarkers = true;
+    @Builder.Default
+    private final boolean parenthesizedNegatives = true;
+    @Builder.Default
+    private final boolean exhibits = true;
+    @Builder.Default
+    private final long seed = 42L;
+
+    /**
+     * Generated document together with the values the parser is expected to extract.
+     *
+     * @param content the PDF bytes
+     * @param pageCount the number of pages in the document
+     * @param expected the expected values keyed by dotted path in the parser output
+     */
+    public record SyntheticReport(byte[] content, int pageCount, Map<String, Double> expected) {
+    }
+
+    /**
+     * Generates the document.
+     *
+     * @return the generated report
+     * @throws IOException if the PDF cannot be written
+     */
+    public SyntheticReport generate() throws IOException {
+        if (pageCount < MIN_PAGE_COUNT) {
+            throw new IllegalArgumentException("pageCount must be at least " + MIN_PAGE_COUNT);
+        }
+        Random random = new Random(seed);
+        Map<String, Double> expected = new LinkedHashMap<>();
+        int statementStart = Math.max(1, (pageCount - STATEMENT_PAGES - NOTE_PAGES) / 2);
+        int notesEnd = statementStart + STATEMENT_PAGES + NOTE_PAGES;
+        int exhibitStart = exhibits ? pageCount - Math.max(1, pageCount / 10) : pageCount;
+
+        try (PDDocument document = new PDDocument();
+             ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            for (int pageIndex = 0; pageIndex < pageCount; pageIndex++) {
+                PDPage page = new PDPage(PDRectangle.LETTER);
+                document.addPage(page);
+                try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                    PageWriter writer = new PageWriter(content);
+                    if (pageIndex == 0) {
+                        writeCoverPage(writer, random);
+                    } else if (pageIndex == statementStart) {
+                        writeOperationsStatement(writer, random, expected);
+                    } else if (pageIndex == statementStart + 1) {
+                        writeBalanceSheet(writer, random, expected);
+                    } else if (pageIndex == statementStart + 2) {
+                        writeComprehensiveIncomeStatement(writer, random, expected);
+                    } else if (pageIndex == statementStart + 3) {
+                        writeShareholdersEquityStatement(writer, random, expected);
+                    } else if (pageIndex == statementStart + 4) {
+                        writeCashFlowStatement(writer, random, expected);
+                    } else if (pageIndex < notesEnd && pageIndex > statementStart + 4) {
+                        writeNotePage(writer, random, expected, pageIndex - statementStart - STATEMENT_PAGES);
+                    } else if (pageIndex >= exhibitStart && pageIndex >= notesEnd) {
+                        writeExhibitPage(writer, random, pageIndex);
+                    } else {
+                        writeNarrativePage(writer, random, pageIndex);
+                    }
+                    writer.footer(FOOTER + " | " + (pageIndex + 1));
+                }
+            }
+            document.save(out);
+            return new SyntheticReport(out.toByteArray(), pageCount, expected);
+        }
+    }
+
+    private void writeCoverPage(PageWriter writer, Random random) throws IOException {
+        writer.heading("UNITED STATES");
+        writer.heading("SECURITIES AND EXCHANGE COMMISSION");
+        writer.text("Washington, D.C. 20549");
+        writer.heading("FORM 10-K");
+        writer.text("ANNUAL REPORT PURSUANT TO SECTION 13 OR 15(d) OF THE SECURITIES EXCHANGE ACT OF 1934");
+        writer.text("For the fiscal year ended September 30, 2023");
+        writer.heading("Apple Inc.");
+        writer.text("(Exact name of Registrant as specified in its charter)");
+        for (int i = 0; i < 6; i++) {
+            writer.text(sentence(random));
+        }
+    }
+
+    private void writeOperationsStatement(PageWriter writer, Random random, Map<String, Double> expected) throws IOException {
+        String prefix = "Income_Statement_And_EPS.Income_Statement.";
+        writer.heading("CONSOLIDATED STATEMENTS OF OPERATIONS");
+        writer.text("(In millions, except number of shares, which are reflected in thousands, and per-share amounts)");
+        writer.row("Years ended", "2023", "2022");
+        writer.text("Net sales:");
+        writer.row(label("Products", 1) + " $", amount(random, expected, prefix + "Products_Net_Sales", false), amount(random));
+        writer.row(label("Services", 2), amount(random, expected, prefix + "Services_Net_Sales", false), amount(random));
+        writer.row("Total net sales", amount(random, expected, prefix + "Total_Net_Sales", false), amount(random));
+        writer.row("Total cost of sales", amount(random, expected, prefix + "Total_Cost_of_Sales", false), amount(random));
+        writer.row("Gross margin", amount(random, expected, prefix + "Gross_Margin", false), amount(random));
+        writer.row("Operating income", amount(random, expected, prefix + "Operating_Income", false), amount(random));
+        writer.text("Earnings per share:");
+        String epsPrefix = "Income_Statement_And_EPS.Earnings_Per_Share.";
+        writer.row("Basic $", perShare(random, expected, epsPrefix + "Basic_EPS"), perShare(random, null, null));
+        writer.row("Diluted $", perShare(random, expected, epsPrefix + "Diluted_EPS"), perShare(random, null, null));
+    }
+
+    private void writeBalanceSheet(PageWriter writer, Random random, Map<String, Double> expected) throws IOException {
+        String assets = "Assets.";
+        String liabilities = "Liabilities_and_Shareholders_Equity.";
+        writer.heading("CONSOLIDATED BALANCE SHEETS");
+        writer.text("(In millions, except number of shares, which are reflected in thousands, and par value)");
+        writer.row("", "September 30, 2023", "September 24, 2022");
+        writer.text("ASSETS:");
+        writer.text("Current assets:");
+        writer.row("Cash and cash equivalents $", amount(random, expected, assets + "Current_Assets.Cash_and_Cash_Equivalents", false), amount(random));
+        writer.row("Marketable securities", amount(random, expected, assets + "Current_Assets.Marketable_Securities", false), amount(random));
+        writer.text("Non-current assets:");
+        // Same label as the current row; the parser reads the first one for both fields.
+        writer.row("Marketable securities", amount(random), amount(random));
+        expected.put(assets + "Non_Current_Assets.Marketable_Securities", expected.get(assets + "Current_Assets.Marketable_Securities"));
+        writer.row(label("Property, plant and equipment, net", 1), amount(random, expected, assets + "Non_Current_Assets.Property_Plant_and_Equipment_Net", false), amount(random));
+        writer.text("LIABILITIES AND SHAREHOLDERS’ EQUITY:");
+        writer.text("Current liabilities:");
+        writer.row("Accounts payable $", amount(random, expected, liabilities + "Current_Liabilities.Accounts_Payable", false), amount(random));
+        writer.row("Other current liabilities", amount(random, expected, liabilities + "Current_Liabilities.Other_Current_Liabilities", false), amount(random));
+        writer.text("Non-current liabilities:");
+        writer.row("Term debt", amount(random, expected, liabilities + "Non_Current_Liabilities.Term_Debt", false), amount(random));
+        writer.row("Other non-current liabilities", amount(random, expected, liabilities + "Non_Current_Liabilities.Other_Non_Current_Liabilities", false), amount(random));
+    }
+
+    private void writeComprehensiveIncomeStatement(PageWriter writer, Random random, Map<String, Double> expected) throws IOException {
+        String prefix = "Comprehensive_Income_Statement.";
+        writer.heading("CONSOLIDATED STATEMENTS OF COMPREHENSIVE INCOME");
+        writer.text("(In millions)");
+        writer.row("Years ended", "2023", "2022");
+        writer.row("Net income $", amount(random, expected, prefix + "Net_Income", false), amount(random));
+        writer.text("Other comprehensive income/(loss):");
+        writer.row(label("Change in foreign currency translation", 1) + ", net of tax",
+                amount(random, expected, prefix + "Change_in_Foreign_Currency_Translation", true), amount(random));
+        writer.row("Change in fair value of derivative instruments",
+                amount(random, expected, prefix + "Change_in_Fair_Value_of_Derivative_Instruments", false), amount(random));
+        writer.row("Total other comprehensive income/(loss)",
+                amount(random, expected, prefix + "Total_Other_Comprehensive_Income_Loss", true), amount(random));
+    }
+
+    private void writeShareholdersEquityStatement(PageWriter writer, Random random, Map<String, Double> expected) throws IOException {
+        String prefix = "Shareholders_Equity_Statement.";
+        writer.heading("CONSOLIDATED STATEMENTS OF SHAREHOLDERS’ EQUITY");
+        writer.text("(In millions, except per-share amounts)");
+        writer.row("Years ended", "2023", "2022");
+        writer.row("Total shareholders’ equity, beginning balances $",
+                amount(random, expected, prefix + "Beginning_Balances_Total_Shareholders_Equity", false), amount(random));
+        writer.text("Retained earnings/(Accumulated deficit):");
+        writer.row("Net income", amount(random, expected, prefix + "Net_Income", false), amount(random));
+        writer.row(label("Dividends and dividend equivalents declared", 1),
+                amount(random, expected, prefix + "Dividends_Declared", true), amount(random));
+        writer.row("Total shareholders’ equity, ending balances $",
+                amount(random, expected, prefix + "Ending_Balances_Total_Shareholders_Equity", false), amount(random));
+    }
+
+    private void writeCashFlowStatement(PageWriter writer, Random random, Map<String, Double> expected) throws IOException {
+        String prefix = "Cash_Flow_Statement.";
+        writer.heading("CONSOLIDATED STATEMENTS OF CASH FLOWS");
+        writer.text("(In millions)");
+        writer.row("Years ended", "2023", "2022");
+        writer.text("Operating activities:");
+        writer.row("Net income $", amount(random, expected, prefix + "Net_Income", false), amount(random));
+        writer.row(label("Depreciation and amortization", 2), amount(random, expected, prefix + "Depreciation_and_Amortization", false), amount(random));
+        writer.row("Cash generated by operating activities", amount(random, expected, prefix + "Cash_Generated_by_Operating_Activities", false), amount(random));
+        writer.text("Investing activities:");
+        writer.row("Cash used in investing activities", amount(random, expected, prefix + "Cash_Used_in_Investing_Activities", true), amount(random));
+        writer.text("Financing activities:");
+        writer.row("Cash used in financing activities", amount(random, expected, prefix + "Cash_Used_in_Financing_Activities", true), amount(random));
+    }
+
+    private void writeNotePage(PageWriter writer, Random random, Map<String, Double> expected, int note) throws IOException {
+        switch (note) {
+            case 0 -> writeEarningsPerShareNote(writer, random, expected);
+            case 1 -> writeFinancialInstrumentsNote(writer, random, expected);
+            case 2 -> writePropertyAndIncomeTaxesNotes(writer, random, expected);
+            case 3 -> writeDebtAndEquityNotes(writer, random, expected);
+            case 4 -> writeCompensationAndCommitmentsNotes(writer, random, expected);
+            default -> writeSegmentInformationNote(writer, random, expected);
+        }
+    }
+
+    private void writeEarningsPerShareNote(PageWriter writer, Random random, Map<String, Double> expected) throws IOException {
+        String prefix = "Net_Sales_And_EPS.Net_Sales.";
+        writer.heading("Note 3 – Earnings Per Share");
+        writer.text(sentence(random));
+        writer.row("Years ended", "2023", "2022");
+        writer.row("iPhone (1) $", amount(random, expected, prefix + "iPhone", false), amount(random));
+        writer.row("Mac (1)", amount(random, expected, prefix + "Mac", false), amount(random));
+        writer.row("iPad (1)", amount(random, expected, prefix + "iPad", false), amount(random));
+        writer.row("Wearables, Home and Accessories (1)", amount(random, expected, prefix + "Wearables_Home_and_Accessories", false), amount(random));
+        writer.row("Services (2)", amount(random, expected, prefix + "Services", false), amount(random));
+        writer.row("Total net sales $", amount(random, expected, prefix + "Total_Net_Sales", false), amount(random));
+        String epsPrefix = "Net_Sales_And_EPS.Earnings_Per_Share.";
+        writer.row("Basic earnings per share $", perShare(random, expected, epsPrefix + "Basic_Earnings_Per_Share"), perShare(random, null, null));
+        writer.row("Diluted earnings per share $", perShare(random, expected, epsPrefix + "Diluted_Earnings_Per_Share"), perShare(random, null, null));
+    }
+
+    private void writeFinancialInstrumentsNote(PageWriter writer, Random random, Map<String, Double> expected) throws IOException {
+        String cash = "Cash_Equivalents_And_Marketable_Securities.";
+        writer.heading("Note 4 – Financial Instruments");
+        writer.text("Cash, Cash Equivalents and Marketable Securities");
+        writer.text("Level 1:");
+        writer.row("Money market funds", amount(random, expected, cash + "Level_1.Money_Market_Funds", false), amount(random));
+        writer.row("Mutual funds and equity securities", amount(random, expected, cash + "Level_1.Mutual_Funds_Equity_Securities", false), amount(random));
+        writer.text("Level 2:");
+        writer.row("U.S. Treasury securities", amount(random, expected, cash + "Level_2.U.S_Treasury_Securities", false), amount(random));
+        writer.row("Corporate debt securities", amount(random, expected, cash + "Level_2.Corporate_Debt_Securities", false), amount(random));
+
+        // Read with parseField, which takes the first plain number after the label.
+        String derivatives = "Debt_Securities_And_Derivatives.";
+        writer.text("Derivative Instruments and Hedging");
+        writer.row("Due after 1 year through 5 years", amount(random, expected, derivatives + "Non_Current_Marketable_Debt_Securities.Due_After_1_Year_Through_5_Years", false));
+        writer.row("Due after 10 years", amount(random, expected, derivatives + "Non_Current_Marketable_Debt_Securities.Due_After_10_Years", false));
+        writer.row("Total fair value", amount(random, expected, derivatives + "Non_Current_Marketable_Debt_Securities.Total_Fair_Value", false));
+        writer.text("Derivative instruments designated as accounting hedges:");
+        writer.row("Foreign exchange contracts", amount(random, expected, derivatives + "Derivative_Instruments.Accounting_Hedges.Foreign_Exchange_Contracts", false));
+        writer.row("Interest rate contracts", amount(random, expected, derivatives + "Derivative_Instruments.Accounting_Hedges.Interest_Rate_Contracts", false));
+        // Same label as the accounting hedge row; the parser reads the first one for both fields.
+        writer.text("Derivative instruments not designated as accounting hedges:");
+        writer.row("Foreign exchange contracts", amount(random));
+        expected.put(derivatives + "Derivative_Instruments.Non_Accounting_Hedges.Foreign_Exchange_Contracts",
+                expected.get(derivatives + "Derivative_Instruments.Accounting_Hedges.Foreign_Exchange_Contracts"));
+
+        String hedged = "Hedged_Assets_And_Liabilities.";
+        writer.text("Accounts Receivable");
+        writer.row("Current and non-current marketable securities", amount(random, expected, hedged + "Marketable_Securities", false), amount(random));
+        writer.row("Current and non-current term debt", amount(random, expected, hedged + "Term_Debt", true), amount(random));
+    }
+
+    private void writePropertyAndIncomeTaxesNotes(PageWriter writer, Random random, Map<String, Double> expected) throws IOException {
+        writer.heading("Note 5 – Property, Plant and Equipment");
+        writer.text(sentence(random));
+        writer.row("Total property, plant and equipment, net $",
+                amount(random, expected, "Property_Plant_And_Equipment_And_Other_Details.Net_Property_Plant_And_Equipment", false), amount(random));
+        writer.heading("Note 7 – Income Taxes");
+        writer.row(label("Provision for income taxes", 1) + " $", amount(random, expected, "Income_Taxes.Provision_For_Income_Taxes", false), amount(random));
+        writer.text("Deferred Tax Assets and Liabilities");
+        String deferred = "Deferred_Tax_And_Uncertain_Positions.";
+        writer.row("Total deferred tax assets", amount(random, expected, deferred + "Deferred_Tax_Assets.Total_Deferred_Tax_Assets", false), amount(random));
+        writer.row("Total deferred tax liabilities", amount(random, expected, deferred + "Deferred_Tax_Liabilities.Total_Deferred_Tax_Liabilities", false), amount(random));
+    }
+
+    private void writeDebtAndEquityNotes(PageWriter writer, Random random, Map<String, Double> expected) throws IOException {
+        writer.heading("Note 9 – Debt");
+        writer.row("Proceeds from/(Repayments of) commercial paper, net $",
+                amount(random, expected, "Commercial_Paper.Proceeds_Repayments_Net", true), amount(random));
+        writer.row("Total lease liabilities $", amount(random, expected, "Lease_Liability_Maturities.Operating_Leases", false), amount(random));
+        writer.heading("Note 10 – Shareholders’ Equity");
+        writer.row("Total term debt principal", amount(random, expected, "Term_Debt.Total_Term_Debt_Principal", false), amount(random));
+    }
+
+    private void writeCompensationAndCommitmentsNotes(PageWriter writer, Random random, Map<String, Double> expected) throws IOException {
+        writer.heading("Note 11 – Share-Based Compensation");
+        writer.row("Common stock outstanding, beginning balances",
+                amount(random, expected, "Common_Stock.Common_Stock_Beginning_Balance", false), amount(random));
+        writer.row("Common stock outstanding, ending balances",
+                amount(random, expected, "Common_Stock.Common_Stock_Ending_Balance", false), amount(random));
+        writer.heading("Note 12 – Commitments, Contingencies and Supply Concentrations");
+        writer.row("Share-based compensation expense $",
+                amount(random, expected, "Share_Based_Compensation_And_Purchase_Obligations.Share_Based_Compensation_Expense", false), amount(random));
+    }
+
+    private void writeSegmentInformationNote(PageWriter writer, Random random, Map<String, Double> expected) throws IOException {
+        String prefix = "Segment_Information_And_Geographic_Data.";
+        writer.heading("Note 13 – Segment Information and Geographic Data");
+        writer.text(sentence(random));
+        writer.text("Americas:");
+        writer.row("Net sales $", amount(random, expected, prefix + "Americas", false), amount(random));
+        writer.row("Operating income $", amount(random), amount(random));
+        writer.text("Europe:");
+        writer.row("Net sales $", amount(random, expected, prefix + "Europe", false), amount(random));
+        writer.row("Operating income $", amount(random), amount(random));
+        writer.text("The U.S. and China were the only countries that accounted for more than 10% of net sales.");
+        writer.row("Total net sales $", amount(random, expected, "Net_Sales_And_Long_Lived_Assets.Net_Sales", false), amount(random));
+    }
+
+    private void writeNarrativePage(PageWriter writer, Random random, int pageIndex) throws IOException {
+        writer.heading("Item " + (pageIndex % 9 + 1) + ". " + capitalize(WORDS[random.nextInt(WORDS.length)]));
+        for (int i = 0; i < 8; i++) {
+            writer.text(sentence(random));
+        }
+        writeTable(writer, random, "Schedule item");
+    }
+
+    private void writeExhibitPage(PageWriter writer, Random random, int pageIndex) throws IOException {
+        writer.heading("Exhibit " + (10 + pageIndex % 20) + "." + (pageIndex % 7 + 1));
+        writer.text(sentence(random));
+        writeTable(writer, random, "Exhibit line");
+    }
+
+    private void writeTable(PageWriter writer, Random random, String rowLabel) throws IOException {
+        int rows = Math.min(tableRowsPerPage, MAX_TABLE_ROWS);
+        for (int row = 1; row <= rows; row++) {
+            writer.row(label(rowLabel + " " + row, row % 3), amount(random), amount(random));
+        }
+    }
+
+    private String label(String label, int footnote) {
+        return footnoteMarkers && footnote > 0 ? label + " (" + footnote + ")" : label;
+    }
+
+    private String amount(Random random) {
+        return amount(random, null, null, random.nextInt(5) == 0);
+    }
+
+    private String amount(Random random, Map<String, Double> expected, String path, boolean negative) {
+        long value = random.nextInt(4) == 0 ? 10 + random.nextInt(990) : 1_000 + random.nextInt(399_000);
+        boolean asNegative = negative && parenthesizedNegatives;
+        if (expected != null) {
+            expected.put(path, (double) (asNegative ? -value : value));
+        }
+        String formatted = new DecimalFormat("#,##0", US_SYMBOLS).format(value);
+        return asNegative ? "(" + formatted + ")" : formatted;
+    }
+
+    private String perShare(Random random, Map<String, Double> expected, String path) {
+        String formatted = new DecimalFormat("0.00", US_SYMBOLS).format(1 + random.nextInt(900) / 100.0);
+        if (expected != null) {
+            expected.put(path, Double.parseDouble(formatted));
+        }
+        return formatted;
+    }
+
+    private String sentence(Random random) {
+        StringBuilder sentence = new StringBuilder(capitalize(WORDS[random.nextInt(WORDS.length)]));
+        int words = 8 + random.nextInt(6);
+        for (int i = 1; i < words; i++) {
+            sentence.append(' ').append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sentence.append('.').toString();
+    }
+
+    private static String capitalize(String word) {
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+
+    /**
+     * Writes lines top-down on a single page, one text object per fragment.
+     */
+    private static final class PageWriter {
+
+        private final PDPageContentStream content;
+        private float y = TOP;
+
+        private PageWriter(PDPageContentStream content) {
+            this.content = content;
+        }
+
+        void heading(String text) throws IOException {
+            show(BOLD_FONT, LEFT, y, text);
+            y -= LINE_HEIGHT;
+        }
+
+        void text(String text) throws IOException {
+            show(FONT, LEFT, y, text);
+            y -= LINE_HEIGHT;
+        }
+
+        void row(String label, String... values) throws IOException {
+            if (!label.isEmpty()) {
+                show(FONT, LEFT, y, label);
+            }
+            for (int i = 0; i < values.length && i < VALUE_COLUMNS.length; i++) {
+                show(FONT, VALUE_COLUMNS[i], y, values[i]);
+            }
+            y -= LINE_HEIGHT;
+        }
+
+        void footer(String text) throws IOException {
+            show(FONT, LEFT, 36f, text);
+        }
+
+        private void show(PDFont font, float x, float atY, String text) throws IOException {
+            content.beginText();
+            content.setFont(font, FONT_SIZE);
+            content.newLineAtOffset(x, atY);
+            content.showText(text);
+            content.endText();
+        }
+    }
+}